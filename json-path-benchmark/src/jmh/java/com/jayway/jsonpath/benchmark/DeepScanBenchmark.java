@@ -0,0 +1,86 @@
+/*
+ * Copyright 2011 the original author or authors.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jayway.jsonpath.benchmark;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.internal.Path;
+import com.jayway.jsonpath.internal.path.PathCompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures deep scan ("..") evaluation, i.e. {@link com.jayway.jsonpath.internal.path.ScanPathToken#walk}, for the
+ * different kinds of tokens that can follow a scan. The scan runs on the calling thread when {@link #parallelism} is 0,
+ * otherwise on a {@link Configuration#scanPool(ForkJoinPool) scan pool} with that many threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeepScanBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Documents document;
+
+    @Param({
+            "$..price",
+            "$..meta.rating",
+            "$..*",
+            "$..tags[0]",
+            "$..book[?(@.price < 10)]",
+            "$..['title','price']"
+    })
+    public String path;
+
+    @Param({"0", "1", "2", "4", "8"})
+    public int parallelism;
+
+    private ForkJoinPool pool;
+    private Configuration configuration;
+    private Object json;
+    private Path compiled;
+
+    @Setup
+    public void setUp() {
+        configuration = Providers.JSON_SMART.configuration();
+        if (parallelism > 0) {
+            pool = new ForkJoinPool(parallelism);
+            configuration = configuration.scanPool(pool);
+        }
+        json = configuration.jsonProvider().parse(document.json());
+        compiled = PathCompiler.compile(path);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public Object scan() {
+        return compiled.evaluate(json, json, configuration).getValue(false);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2011 the original author or authors.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jayway.jsonpath.benchmark;
+
+import java.util.Random;
+
+/**
+ * Deterministic book store documents used by the benchmarks.
+ *
+ * All sizes share the same shape so that the same paths can be evaluated against each of them:
+ *
+ * <pre>
+ * { "store" : { "book" : [ { "category", "author", "title", "isbn"?, "price", "tags" : [], "meta" : {} } ],
+ *               "bicycle" : { "color", "price" } },
+ *   "expensive" : 10 }
+ * </pre>
+ */
+public enum Documents {
+
+    /** A handful of books, roughly the size of the README example. */
+    SMALL(4),
+
+    /** About 200 KB of json. */
+    MEDIUM(1_000),
+
+    /** A multi-MB document. */
+    LARGE(40_000);
+
+    private static final String[] CATEGORIES = {"reference", "fiction", "poetry", "science", "history"};
+    private static final String[] AUTHORS = {"Nigel Rees", "Evelyn Waugh", "Herman Melville", "J. R. R. Tolkien", "Mary Shelley"};
+    private static final String[] TAGS = {"classic", "bestseller", "paperback", "hardcover", "signed", "illustrated"};
+
+    private final int books;
+    private String json;
+
+    Documents(int books) {
+        this.books = books;
+    }
+
+    /**
+     * @return the number of books in the store
+     */
+    public int books() {
+        return books;
+    }
+
+    /**
+     * @return the json string of this document, built once and reused
+     */
+    public synchronized String json() {
+        if (json == null) {
+            json = generate(books);
+        }
+        return json;
+    }
+
+    private static String generate(int books) {
+        Random random = new Random(books);
+        StringBuilder sb = new StringBuilder(books * 220);
+        sb.append("{\"store\":{\"book\":[");
+        for (int i = 0; i < books; i++) {
+            if (i != 0) {
+                sb.append(',');
+            }
+            sb.append("{\"category\":\"").append(CATEGORIES[i % CATEGORIES.length]).append('"');
+            sb.append(",\"author\":\"").append(AUTHORS[random.nextInt(AUTHORS.length)]).append('"');
+            sb.append(",\"title\":\"Title ").append(i).append('"');
+            if (i % 2 == 0) {
+                sb.append(",\"isbn\":\"0-").append(100 + random.nextInt(900)).append('-').append(10000 + i).append('"');
+            }
+            sb.append(",\"price\":").append(random.nextInt(3000) / 100.0);
+            sb.append(",\"tags\":[");
+            int tagCount = 1 + random.nextInt(3);
+            for (int t = 0; t < tagCount; t++) {
+                if (t != 0) {
+                    sb.append(',');
+                }
+                sb.append('"').append(TAGS[random.nextInt(TAGS.length)]).append('"');
+            }
+            sb.append("],\"meta\":{\"id\":").append(i)
+                    .append(",\"rating\":").append(random.nextInt(5) + 1)
+                    .append(",\"stock\":").append(random.nextInt(100))
+                    .append(",\"available\":").append(random.nextBoolean())
+                    .append("}}");
+        }
+        sb.append("],\"bicycle\":{\"color\":\"red\",\"price\":19.95}},\"expensive\":10}");
+        return sb.toString();
+    }
+}
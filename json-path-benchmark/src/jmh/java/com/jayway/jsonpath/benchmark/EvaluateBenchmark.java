@@ -0,0 +1,77 @@
+/*
+ * Copyright 2011 the original author or authors.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jayway.jsonpath.benchmark;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.internal.Path;
+import com.jayway.jsonpath.internal.path.PathCompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link com.jayway.jsonpath.internal.path.CompiledPath#evaluate(Object, Object, Configuration)} on an
+ * already parsed document with an already compiled path, so neither parsing nor compilation is part of the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EvaluateBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Documents document;
+
+    @Param({
+            "$.store.bicycle.color",
+            "$.store.book[1].meta.rating",
+            "$.store.book[*].author",
+            "$.store.book[1:3].title",
+            "$.store.book[?(@.price < 10)].title",
+            "$.store.book[?(@.price < 10 && @.category == 'fiction')].title",
+            "$.store.book[?(@.isbn)].isbn",
+            "$.store.book.length()"
+    })
+    public String path;
+
+    @Param({"false", "true"})
+    public boolean asPathList;
+
+    private Configuration configuration;
+    private Object json;
+    private Path compiled;
+
+    @Setup
+    public void setUp() {
+        configuration = Providers.JSON_SMART.configuration();
+        if (asPathList && !path.endsWith("()")) {
+            configuration = configuration.addOptions(Option.AS_PATH_LIST);
+        }
+        json = configuration.jsonProvider().parse(document.json());
+        compiled = PathCompiler.compile(path);
+    }
+
+    @Benchmark
+    public Object evaluate() {
+        return compiled.evaluate(json, json, configuration).getValue(false);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2011 the original author or authors.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jayway.jsonpath.benchmark;
+
+import com.jayway.jsonpath.Filter;
+import com.jayway.jsonpath.internal.filter.FilterCompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link FilterCompiler#compile(String)} for inline filters of increasing complexity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FilterCompileBenchmark {
+
+    @Param({
+            "[?(@.isbn)]",
+            "[?(@.price < 10)]",
+            "[?(@.price < 10 && @.category == 'fiction')]",
+            "[?(@.category in ['fiction', 'poetry', 'science'])]",
+            "[?((@.meta.rating >= 4 || @.author =~ /.*Rees/i) && !(@.meta.available == false))]"
+    })
+    public String filter;
+
+    @Benchmark
+    public Filter compile() {
+        return FilterCompiler.compile(filter);
+    }
+}
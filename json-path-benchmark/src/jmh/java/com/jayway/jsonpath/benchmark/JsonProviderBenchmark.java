@@ -0,0 +1,89 @@
+/*
+ * Copyright 2011 the original author or authors.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jayway.jsonpath.benchmark;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.internal.Path;
+import com.jayway.jsonpath.internal.path.PathCompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the same parse, read, filter and deep scan operations against every bundled
+ * {@link com.jayway.jsonpath.spi.json.JsonProvider} so that providers can be compared with each other.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonProviderBenchmark {
+
+    @Param({"JSON_SMART", "JACKSON", "JACKSON_JSON_NODE", "GSON", "JSON_ORG", "JETTISON", "TAPESTRY", "JAKARTA"})
+    public Providers provider;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Documents document;
+
+    private Configuration configuration;
+    private String jsonString;
+    private Object json;
+    private Path definite;
+    private Path wildcard;
+    private Path filter;
+    private Path scan;
+
+    @Setup
+    public void setUp() {
+        configuration = provider.configuration();
+        jsonString = document.json();
+        json = configuration.jsonProvider().parse(jsonString);
+        definite = PathCompiler.compile("$.store.book[1].meta.rating");
+        wildcard = PathCompiler.compile("$.store.book[*].author");
+        filter = PathCompiler.compile("$.store.book[?(@.price < 10 && @.category == 'fiction')].title");
+        scan = PathCompiler.compile("$..price");
+    }
+
+    @Benchmark
+    public Object parse() {
+        return configuration.jsonProvider().parse(jsonString);
+    }
+
+    @Benchmark
+    public Object readDefinite() {
+        return definite.evaluate(json, json, configuration).getValue(false);
+    }
+
+    @Benchmark
+    public Object readWildcard() {
+        return wildcard.evaluate(json, json, configuration).getValue(false);
+    }
+
+    @Benchmark
+    public Object readFilter() {
+        return filter.evaluate(json, json, configuration).getValue(false);
+    }
+
+    @Benchmark
+    public Object deepScan() {
+        return scan.evaluate(json, json, configuration).getValue(false);
+    }
+}
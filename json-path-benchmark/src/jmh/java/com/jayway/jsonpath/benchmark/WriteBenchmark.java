@@ -0,0 +1,97 @@
+/*
+ * Copyright 2011 the original author or authors.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jayway.jsonpath.benchmark;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link JsonPath#set(Object, Object, Configuration)} and {@link JsonPath#delete(Object, Configuration)}.
+ *
+ * Setting a value is idempotent so the same document is reused across invocations. Deleting is not, so every
+ * invocation works on a freshly parsed document; the parse happens in an invocation level setup and is not part
+ * of the measured time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WriteBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SetState {
+
+        @Param({"SMALL", "MEDIUM", "LARGE"})
+        public Documents document;
+
+        @Param({"$.store.bicycle.color", "$.store.book[*].price", "$.store.book[?(@.category == 'fiction')].meta.stock"})
+        public String path;
+
+        Configuration configuration;
+        Object json;
+        JsonPath compiled;
+
+        @Setup
+        public void setUp() {
+            configuration = Providers.JSON_SMART.configuration();
+            json = configuration.jsonProvider().parse(document.json());
+            compiled = JsonPath.compile(path);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DeleteState {
+
+        @Param({"SMALL", "MEDIUM", "LARGE"})
+        public Documents document;
+
+        @Param({"$.store.bicycle", "$.store.book[*].isbn", "$..meta.available"})
+        public String path;
+
+        Configuration configuration;
+        Object json;
+        JsonPath compiled;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            configuration = Providers.JSON_SMART.configuration();
+            compiled = JsonPath.compile(path);
+        }
+
+        @Setup(Level.Invocation)
+        public void parse() {
+            json = configuration.jsonProvider().parse(document.json());
+        }
+    }
+
+    @Benchmark
+    public Object set(SetState state) {
+        return state.compiled.set(state.json, "value", state.configuration);
+    }
+
+    @Benchmark
+    public Object delete(DeleteState state) {
+        return state.compiled.delete(state.json, state.configuration);
+    }
+}
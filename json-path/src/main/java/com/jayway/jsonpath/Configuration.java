@@ -15,10 +15,12 @@
 package com.jayway.jsonpath;
 
 import com.jayway.jsonpath.internal.DefaultsImpl;
+import com.jayway.jsonpath.spi.cache.Cache;
 import com.jayway.jsonpath.spi.json.JsonProvider;
 import com.jayway.jsonpath.spi.mapper.MappingProvider;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 import static com.jayway.jsonpath.internal.Utils.notNull;
 import static java.util.Arrays.asList;
@@ -29,6 +31,7 @@ import static java.util.Arrays.asList;
 public class Configuration {
 
     private static Defaults DEFAULTS = null;
+    private static volatile Configuration DEFAULT_CONFIGURATION = null;
 
     /**
      * Set Default configuration
@@ -36,6 +39,7 @@ public class Configuration {
      */
     public static synchronized void setDefaults(Defaults defaults){
         DEFAULTS = defaults;
+        DEFAULT_CONFIGURATION = null;
     }
 
     private static Defaults getEffectiveDefaults(){
@@ -49,9 +53,12 @@ public class Configuration {
     private final JsonProvider jsonProvider;
     private final MappingProvider mappingProvider;
     private final Set<Option> options;
+    private final int optionFlags;
     private final Collection<EvaluationListener> evaluationListeners;
+    private final Cache cache;
+    private final ForkJoinPool scanPool;
 
-    private Configuration(JsonProvider jsonProvider, MappingProvider mappingProvider, EnumSet<Option> options, Collection<EvaluationListener> evaluationListeners) {
+    private Configuration(JsonProvider jsonProvider, MappingProvider mappingProvider, EnumSet<Option> options, Collection<EvaluationListener> evaluationListeners, Cache cache, ForkJoinPool scanPool) {
         notNull(jsonProvider, "jsonProvider can not be null");
         notNull(mappingProvider, "mappingProvider can not be null");
         notNull(options, "setOptions can not be null");
@@ -59,7 +66,10 @@ public class Configuration {
         this.jsonProvider = jsonProvider;
         this.mappingProvider = mappingProvider;
         this.options = Collections.unmodifiableSet(options);
+        this.optionFlags = flagsOf(options);
         this.evaluationListeners = Collections.unmodifiableCollection(evaluationListeners);
+        this.cache = cache;
+        this.scanPool = scanPool;
     }
 
     /**
@@ -68,7 +78,7 @@ public class Configuration {
      * @return a new configuration
      */
     public Configuration addEvaluationListeners(EvaluationListener... evaluationListener){
-        return Configuration.builder().jsonProvider(jsonProvider).mappingProvider(mappingProvider).options(options).evaluationListener(evaluationListener).build();
+        return Configuration.builder().jsonProvider(jsonProvider).mappingProvider(mappingProvider).options(options).evaluationListener(evaluationListener).cache(cache).scanPool(scanPool).build();
     }
 
     /**
@@ -77,7 +87,7 @@ public class Configuration {
      * @return a new configuration
      */
     public Configuration setEvaluationListeners(EvaluationListener... evaluationListener){
-        return Configuration.builder().jsonProvider(jsonProvider).mappingProvider(mappingProvider).options(options).evaluationListener(evaluationListener).build();
+        return Configuration.builder().jsonProvider(jsonProvider).mappingProvider(mappingProvider).options(options).evaluationListener(evaluationListener).cache(cache).scanPool(scanPool).build();
     }
 
     /**
@@ -94,7 +104,7 @@ public class Configuration {
      * @return a new configuration
      */
     public Configuration jsonProvider(JsonProvider newJsonProvider) {
-        return Configuration.builder().jsonProvider(newJsonProvider).mappingProvider(mappingProvider).options(options).evaluationListener(evaluationListeners).build();
+        return Configuration.builder().jsonProvider(newJsonProvider).mappingProvider(mappingProvider).options(options).evaluationListener(evaluationListeners).cache(cache).scanPool(scanPool).build();
     }
 
     /**
@@ -111,7 +121,7 @@ public class Configuration {
      * @return a new configuration
      */
     public Configuration mappingProvider(MappingProvider newMappingProvider) {
-        return Configuration.builder().jsonProvider(jsonProvider).mappingProvider(newMappingProvider).options(options).evaluationListener(evaluationListeners).build();
+        return Configuration.builder().jsonProvider(jsonProvider).mappingProvider(newMappingProvider).options(options).evaluationListener(evaluationListeners).cache(cache).scanPool(scanPool).build();
     }
 
     /**
@@ -122,6 +132,43 @@ public class Configuration {
         return mappingProvider;
     }
 
+    /**
+     * Creates a new Configuration that caches compiled paths in the given {@link com.jayway.jsonpath.spi.cache.Cache}
+     * instead of the global cache registered in {@link com.jayway.jsonpath.spi.cache.CacheProvider}
+     * @param newCache cache to use in new configuration, or null to use the global cache
+     * @return a new configuration
+     */
+    public Configuration cache(Cache newCache) {
+        return Configuration.builder().jsonProvider(jsonProvider).mappingProvider(mappingProvider).options(options).evaluationListener(evaluationListeners).cache(newCache).scanPool(scanPool).build();
+    }
+
+    /**
+     * Returns the {@link com.jayway.jsonpath.spi.cache.Cache} used by this configuration
+     * @return the cache of this configuration, or null if the global cache is used
+     */
+    public Cache cache() {
+        return cache;
+    }
+
+    /**
+     * Creates a new Configuration that runs deep scans (<code>..</code>) over large arrays and objects in parallel
+     * on the given {@link java.util.concurrent.ForkJoinPool}. The results are the same as, and in the same order as,
+     * a sequential scan.
+     * @param newScanPool pool to scan on, or null to scan on the calling thread
+     * @return a new configuration
+     */
+    public Configuration scanPool(ForkJoinPool newScanPool) {
+        return Configuration.builder().jsonProvider(jsonProvider).mappingProvider(mappingProvider).options(options).evaluationListener(evaluationListeners).cache(cache).scanPool(newScanPool).build();
+    }
+
+    /**
+     * Returns the {@link java.util.concurrent.ForkJoinPool} deep scans run on
+     * @return the scan pool of this configuration, or null if deep scans run on the calling thread
+     */
+    public ForkJoinPool scanPool() {
+        return scanPool;
+    }
+
     /**
      * Creates a new configuration by adding the new options to the options used in this configuration.
      * @param options options to add
@@ -131,7 +178,7 @@ public class Configuration {
         EnumSet<Option> opts = EnumSet.noneOf(Option.class);
         opts.addAll(this.options);
         opts.addAll(asList(options));
-        return Configuration.builder().jsonProvider(jsonProvider).mappingProvider(mappingProvider).options(opts).evaluationListener(evaluationListeners).build();
+        return Configuration.builder().jsonProvider(jsonProvider).mappingProvider(mappingProvider).options(opts).evaluationListener(evaluationListeners).cache(cache).scanPool(scanPool).build();
     }
 
     /**
@@ -140,7 +187,7 @@ public class Configuration {
      * @return the new configuration instance
      */
     public Configuration setOptions(Option... options) {
-        return Configuration.builder().jsonProvider(jsonProvider).mappingProvider(mappingProvider).options(options).evaluationListener(evaluationListeners).build();
+        return Configuration.builder().jsonProvider(jsonProvider).mappingProvider(mappingProvider).options(options).evaluationListener(evaluationListeners).cache(cache).scanPool(scanPool).build();
     }
 
     /**
@@ -157,16 +204,39 @@ public class Configuration {
      * @return true if configurations contains option
      */
     public boolean containsOption(Option option){
-        return options.contains(option);
+        return (optionFlags & flagOf(option)) != 0;
+    }
+
+    private static int flagsOf(Set<Option> options) {
+        int flags = 0;
+        for (Option option : options) {
+            flags |= flagOf(option);
+        }
+        return flags;
+    }
+
+    private static int flagOf(Option option) {
+        return 1 << option.ordinal();
     }
 
     /**
-     * Creates a new configuration based on default values
-     * @return a new configuration based on defaults
+     * Returns the configuration based on default values. The configuration is built once from the defaults, and
+     * again when they are changed by {@link #setDefaults(Defaults)}.
+     * @return the configuration based on defaults
      */
     public static Configuration defaultConfiguration() {
-        Defaults defaults = getEffectiveDefaults();
-        return Configuration.builder().jsonProvider(defaults.jsonProvider()).options(defaults.options()).build();
+        Configuration configuration = DEFAULT_CONFIGURATION;
+        if (configuration == null) {
+            synchronized (Configuration.class) {
+                configuration = DEFAULT_CONFIGURATION;
+                if (configuration == null) {
+                    Defaults defaults = getEffectiveDefaults();
+                    configuration = Configuration.builder().jsonProvider(defaults.jsonProvider()).options(defaults.options()).build();
+                    DEFAULT_CONFIGURATION = configuration;
+                }
+            }
+        }
+        return configuration;
     }
 
     /**
@@ -186,6 +256,8 @@ public class Configuration {
         private MappingProvider mappingProvider;
         private EnumSet<Option> options = EnumSet.noneOf(Option.class);
         private Collection<EvaluationListener> evaluationListener = new ArrayList<EvaluationListener>();
+        private Cache cache;
+        private ForkJoinPool scanPool;
 
         public ConfigurationBuilder jsonProvider(JsonProvider provider) {
             this.jsonProvider = provider;
@@ -219,6 +291,16 @@ public class Configuration {
             return this;
         }
 
+        public ConfigurationBuilder cache(Cache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        public ConfigurationBuilder scanPool(ForkJoinPool scanPool) {
+            this.scanPool = scanPool;
+            return this;
+        }
+
         public Configuration build() {
             if (jsonProvider == null || mappingProvider == null) {
                 final Defaults defaults = getEffectiveDefaults();
@@ -229,7 +311,7 @@ public class Configuration {
                     mappingProvider = defaults.mappingProvider();
                 }
             }
-            return new Configuration(jsonProvider, mappingProvider, options, evaluationListener);
+            return new Configuration(jsonProvider, mappingProvider, options, evaluationListener, cache, scanPool);
         }
     }
 
@@ -15,13 +15,11 @@
 package com.jayway.jsonpath;
 
 import com.jayway.jsonpath.internal.Path;
-import com.jayway.jsonpath.internal.Utils;
 import com.jayway.jsonpath.internal.filter.RelationalExpressionNode;
 import com.jayway.jsonpath.internal.filter.RelationalOperator;
 import com.jayway.jsonpath.internal.filter.ValueNode;
 import com.jayway.jsonpath.internal.filter.ValueNodes;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
@@ -42,6 +40,8 @@ public class Criteria implements Predicate {
     private ValueNode left;
     private RelationalOperator criteriaType;
     private ValueNode right;
+    private volatile Expression expression;
+    private volatile Text text;
 
     private Criteria(List<Criteria> criteriaChain, ValueNode left) {
         this.left = left;
@@ -55,25 +55,88 @@ public class Criteria implements Predicate {
 
     @Override
     public boolean apply(PredicateContext ctx) {
-        for (RelationalExpressionNode expressionNode : toRelationalExpressionNodes()) {
-            if(!expressionNode.apply(ctx)){
+        for (Criteria criteria : criteriaChain) {
+            if(!criteria.expression().node.apply(ctx)){
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * The text is kept with the expressions of the chain it was built from, it is the same string as long as no
+     * criteria of the chain has been changed, so filters built from it can keep their text too
+     */
     @Override
     public String toString() {
-        return Utils.join(" && ", toRelationalExpressionNodes());
+        Text t = text;
+        if (t == null || !t.isOf(criteriaChain)) {
+            t = new Text(criteriaChain);
+            text = t;
+        }
+        return t.text;
     }
 
-    private Collection<RelationalExpressionNode> toRelationalExpressionNodes(){
-        List<RelationalExpressionNode> nodes = new ArrayList<RelationalExpressionNode>(criteriaChain.size());
-        for (Criteria criteria : criteriaChain) {
-            nodes.add(new RelationalExpressionNode(criteria.left, criteria.criteriaType, criteria.right));
+    /**
+     * The expression node is built once for the current operator and operands, so applying a criteria or using it
+     * as part of a cache key does not build it again
+     */
+    private Expression expression() {
+        Expression e = expression;
+        if (e == null || e.left != left || e.criteriaType != criteriaType || e.right != right) {
+            e = new Expression(left, criteriaType, right);
+            expression = e;
+        }
+        return e;
+    }
+
+    private static final class Expression {
+        private final ValueNode left;
+        private final RelationalOperator criteriaType;
+        private final ValueNode right;
+        private final RelationalExpressionNode node;
+        private final String text;
+
+        private Expression(ValueNode left, RelationalOperator criteriaType, ValueNode right) {
+            this.left = left;
+            this.criteriaType = criteriaType;
+            this.right = right;
+            this.node = new RelationalExpressionNode(left, criteriaType, right);
+            this.text = node.toString();
+        }
+    }
+
+    private static final class Text {
+        private final Expression[] expressions;
+        private final String text;
+
+        private Text(List<Criteria> criteriaChain) {
+            this.expressions = new Expression[criteriaChain.size()];
+            StringBuilder sb = new StringBuilder();
+            int i = 0;
+            for (Criteria criteria : criteriaChain) {
+                if (i > 0) {
+                    sb.append(" && ");
+                }
+                expressions[i] = criteria.expression();
+                sb.append(expressions[i].text);
+                i++;
+            }
+            this.text = sb.toString();
+        }
+
+        private boolean isOf(List<Criteria> criteriaChain) {
+            if (criteriaChain.size() != expressions.length) {
+                return false;
+            }
+            int i = 0;
+            for (Criteria criteria : criteriaChain) {
+                if (criteria.expression() != expressions[i++]) {
+                    return false;
+                }
+            }
+            return true;
         }
-        return nodes;
     }
 
     /**
@@ -69,6 +69,7 @@ public abstract class Filter implements Predicate {
     private static final class SingleFilter extends Filter {
 
         private final Predicate predicate;
+        private volatile Text text;
 
         private SingleFilter(Predicate predicate) {
             this.predicate = predicate;
@@ -82,17 +83,23 @@ public abstract class Filter implements Predicate {
         @Override
         public String toString() {
             String predicateString = predicate.toString();
-            if(predicateString.startsWith("(")){
-                return "[?" + predicateString + "]";
-            } else {
-                return "[?(" + predicateString + ")]";
+            Text t = text;
+            if (t == null || !t.isOf(predicateString)) {
+                if(predicateString.startsWith("(")){
+                    t = new Text("[?" + predicateString + "]", predicateString);
+                } else {
+                    t = new Text("[?(" + predicateString + ")]", predicateString);
+                }
+                text = t;
             }
+            return t.text;
         }
     }
 
     private static final class AndFilter extends Filter {
 
         private final Collection<Predicate> predicates;
+        private volatile Text text;
 
         private AndFilter(Collection<Predicate> predicates) {
             this.predicates = predicates;
@@ -120,23 +127,33 @@ public abstract class Filter implements Predicate {
 
         @Override
         public String toString() {
+            String[] predicateStrings = new String[predicates.size()];
             Iterator<Predicate> i = predicates.iterator();
+            for (int n = 0; n < predicateStrings.length; n++) {
+                predicateStrings[n] = i.next().toString();
+            }
+            Text t = text;
+            if (t != null && t.isOf(predicateStrings)) {
+                return t.text;
+            }
             StringBuilder sb = new StringBuilder();
             sb.append("[?(");
-            while (i.hasNext()){
-                String p = i.next().toString();
+            for (int n = 0; n < predicateStrings.length; n++) {
+                String p = predicateStrings[n];
 
                 if(p.startsWith("[?(")){
                     p = p.substring(3, p.length() - 2);
                 }
                 sb.append(p);
 
-                if(i.hasNext()){
+                if(n < predicateStrings.length - 1){
                     sb.append(" && ");
                 }
             }
             sb.append(")]");
-            return sb.toString();
+            t = new Text(sb.toString(), predicateStrings);
+            text = t;
+            return t.text;
         }
     }
 
@@ -144,7 +161,8 @@ public abstract class Filter implements Predicate {
 
         private final Predicate left;
         private final Predicate right;
-  
+        private volatile Text text;
+
         private OrFilter(Predicate left, Predicate right) {
             this.left = left;
             this.right = right;
@@ -162,12 +180,19 @@ public abstract class Filter implements Predicate {
 
         @Override
         public String toString() {
+            String leftString = left.toString();
+            String rightString = right.toString();
+
+            Text t = text;
+            if (t != null && t.isOf(leftString, rightString)) {
+                return t.text;
+            }
+            String l = leftString;
+            String r = rightString;
+
             StringBuilder sb = new StringBuilder();
             sb.append("[?(");
 
-            String l = left.toString();
-            String r = right.toString();
-
             if(l.startsWith("[?(")){
                 l = l.substring(3, l.length() - 2);
             }
@@ -178,7 +203,36 @@ public abstract class Filter implements Predicate {
             sb.append(l).append(" || ").append(r);
 
             sb.append(")]");
-            return sb.toString();
+            t = new Text(sb.toString(), leftString, rightString);
+            text = t;
+            return t.text;
+        }
+    }
+
+    /**
+     * The text of a filter, together with the strings of the predicates it was built from. Criteria and filters
+     * return the same string as long as they are not changed, so the text of a filter is only built again when one
+     * of its predicates has changed.
+     */
+    private static final class Text {
+        private final String text;
+        private final String[] predicateStrings;
+
+        private Text(String text, String... predicateStrings) {
+            this.text = text;
+            this.predicateStrings = predicateStrings;
+        }
+
+        private boolean isOf(String... predicateStrings) {
+            if (predicateStrings.length != this.predicateStrings.length) {
+                return false;
+            }
+            for (int i = 0; i < predicateStrings.length; i++) {
+                if (predicateStrings[i] != this.predicateStrings[i]) {
+                    return false;
+                }
+            }
+            return true;
         }
     }
 }
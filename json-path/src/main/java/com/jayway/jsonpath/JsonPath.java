@@ -16,6 +16,8 @@ package com.jayway.jsonpath;
 
 
 import com.jayway.jsonpath.internal.*;
+import com.jayway.jsonpath.internal.filter.ValueNode;
+import com.jayway.jsonpath.internal.filter.ValueNodes;
 import com.jayway.jsonpath.internal.path.PathCompiler;
 import com.jayway.jsonpath.spi.json.JsonProvider;
 
@@ -24,6 +26,13 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.jayway.jsonpath.Option.ALWAYS_RETURN_LIST;
 import static com.jayway.jsonpath.Option.AS_PATH_LIST;
@@ -139,6 +148,39 @@ public class JsonPath {
         return path.isDefinite();
     }
 
+    boolean isFunctionPath() {
+        return path.isFunctionPath();
+    }
+
+    Path compiledPath() {
+        return path;
+    }
+
+    /**
+     * Checks if this path can be evaluated by {@link #readStream(InputStream, Configuration)}
+     * <p/>
+     * a path is streamable if it only contains properties, wildcards, ascending array indexes
+     * and slices that do not count from the end of the array
+     * <p/>
+     * streamable path examples are:
+     * <p/>
+     * $.store.book[1].title
+     * $.store.book[*].author
+     * $.store.book[0:2]
+     * <p/>
+     * not streamable path examples are:
+     * <p/>
+     * $..book
+     * $.store.book[-1]
+     * $.store.book[?(@.category = 'fiction')]
+     * $.store.book.length()
+     *
+     * @return true if path can be evaluated on a stream
+     */
+    public boolean isStreamable() {
+        return path.isStreamable();
+    }
+
     /**
      * Applies this JsonPath to the provided json document.
      * Note that the document must be identified as either a List or Map by
@@ -163,8 +205,24 @@ public class JsonPath {
      * @param <T>           expected return type
      * @return object(s) matched by the given path
      */
-    @SuppressWarnings("unchecked")
     public <T> T read(Object jsonObject, Configuration configuration) {
+        return read(jsonObject, configuration, Collections.<String, Object>emptyMap());
+    }
+
+    /**
+     * Applies this JsonPath to the provided json document, the parameters of its filters take the given values.
+     * A parameter is written as a name with a leading colon, <code>:id</code> in <code>$.users[?(@.id == :id)]</code>,
+     * where a filter takes a literal. The values are compared as they are, a string is never read as a path or as json.
+     *
+     * @param jsonObject    a container Object
+     * @param configuration configuration to use
+     * @param parameters    values of the filter parameters by name, without the colon
+     * @param <T>           expected return type
+     * @return object(s) matched by the given path
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(Object jsonObject, Configuration configuration, Map<String, ?> parameters) {
+        Map<String, ValueNode> boundParameters = ValueNodes.ParameterNode.bind(parameters);
         boolean optAsPathList = configuration.containsOption(AS_PATH_LIST);
         boolean optAlwaysReturnList = configuration.containsOption(Option.ALWAYS_RETURN_LIST);
         boolean optSuppressExceptions = configuration.containsOption(Option.SUPPRESS_EXCEPTIONS);
@@ -176,19 +234,118 @@ public class JsonPath {
                 }
                 throw new JsonPathException("Options " + AS_PATH_LIST + " and " + ALWAYS_RETURN_LIST + " are not allowed when using path functions!");
             }
-            EvaluationContext evaluationContext = path.evaluate(jsonObject, jsonObject, configuration);
+            EvaluationContext evaluationContext = evaluate(jsonObject, configuration, false, boundParameters);
             if (optSuppressExceptions && evaluationContext.getPathList().isEmpty()) {
                 return (T) (path.isDefinite() ? null : configuration.jsonProvider().createArray());
             }
             return evaluationContext.getValue(true);
-        } else if (optAsPathList) {
-            EvaluationContext evaluationContext = path.evaluate(jsonObject, jsonObject, configuration);
+        } else {
+            return readResult(evaluate(jsonObject, configuration, false, boundParameters), configuration);
+        }
+    }
+
+    /**
+     * Returns an iterator over the results of this JsonPath on the provided json document.
+     * <p/>
+     * The path is evaluated as the iterator is advanced, a result is found when it is asked for and not before.
+     * Results that are not iterated over are never evaluated, and the results are not collected while the path is
+     * evaluated.
+     *
+     * @param jsonObject a container Object
+     * @param <T>        expected element type
+     * @return iterator over the object(s) matched by the given path
+     * @see #iterator(Object, Configuration)
+     */
+    public <T> Iterator<T> iterator(Object jsonObject) {
+        return iterator(jsonObject, Configuration.defaultConfiguration());
+    }
+
+    /**
+     * Returns an iterator over the results of this JsonPath on the provided json document.
+     * <p/>
+     * The path is evaluated as the iterator is advanced, a result is found when it is asked for and not before.
+     * Results that are not iterated over are never evaluated, and the results are not collected while the path is
+     * evaluated. The iterator returns the elements of the list {@link #read(Object, Configuration)} would return
+     * with {@link Option#ALWAYS_RETURN_LIST}, or the paths of the results if {@link Option#AS_PATH_LIST} is set.
+     * A definite path that does not match returns no elements. Exceptions the evaluation throws are thrown by the
+     * iterator, after the results found before them.
+     * <p/>
+     * The result of a path that ends with a function is computed in one go, it is the only element of the iterator.
+     *
+     * @param jsonObject    a container Object
+     * @param configuration configuration to use
+     * @param <T>           expected element type
+     * @return iterator over the object(s) matched by the given path
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Iterator<T> iterator(Object jsonObject, Configuration configuration) {
+        notNull(jsonObject, "json can not be null");
+        notNull(configuration, "configuration can not be null");
+
+        if (path.isFunctionPath()) {
+            return Collections.singletonList((T) read(jsonObject, configuration)).iterator();
+        }
+        return (Iterator<T>) path.iterate(jsonObject, jsonObject, configuration);
+    }
+
+    /**
+     * Returns a sequential stream of the results of this JsonPath on the provided json document.
+     *
+     * @param jsonObject a container Object
+     * @param <T>        expected element type
+     * @return stream of the object(s) matched by the given path
+     * @see #iterator(Object, Configuration)
+     */
+    public <T> Stream<T> stream(Object jsonObject) {
+        return stream(jsonObject, Configuration.defaultConfiguration());
+    }
+
+    /**
+     * Returns a sequential stream of the results of this JsonPath on the provided json document.
+     * <p/>
+     * The path is evaluated as the stream is consumed, a short-circuiting operation like
+     * <code>limit(10)</code> or <code>findFirst()</code> stops the evaluation as soon as it is done.
+     *
+     * @param jsonObject    a container Object
+     * @param configuration configuration to use
+     * @param <T>           expected element type
+     * @return stream of the object(s) matched by the given path
+     * @see #iterator(Object, Configuration)
+     */
+    public <T> Stream<T> stream(Object jsonObject, Configuration configuration) {
+        Iterator<T> iterator = iterator(jsonObject, configuration);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+    }
+
+    /**
+     * Evaluates this path, the exceptions only the evaluation uses are replaced with the public ones
+     */
+    private EvaluationContext evaluate(Object jsonObject, Configuration configuration, boolean forUpdate) {
+        return evaluate(jsonObject, configuration, forUpdate, Collections.<String, ValueNode>emptyMap());
+    }
+
+    private EvaluationContext evaluate(Object jsonObject, Configuration configuration, boolean forUpdate, Map<String, ValueNode> parameters) {
+        try {
+            return path.evaluate(jsonObject, jsonObject, configuration, forUpdate, parameters);
+        } catch (RuntimeException e) {
+            throw toPublicException(e);
+        }
+    }
+
+    /**
+     * Applies the options of the configuration to the results of an evaluation of this path
+     */
+    @SuppressWarnings("unchecked")
+    <T> T readResult(EvaluationContext evaluationContext, Configuration configuration) {
+        boolean optAlwaysReturnList = configuration.containsOption(Option.ALWAYS_RETURN_LIST);
+        boolean optSuppressExceptions = configuration.containsOption(Option.SUPPRESS_EXCEPTIONS);
+
+        if (configuration.containsOption(AS_PATH_LIST)) {
             if (optSuppressExceptions && evaluationContext.getPathList().isEmpty()) {
                 return (T) configuration.jsonProvider().createArray();
             }
             return (T) evaluationContext.getPath();
         } else {
-            EvaluationContext evaluationContext = path.evaluate(jsonObject, jsonObject, configuration);
             if (optSuppressExceptions && evaluationContext.getPathList().isEmpty()) {
                 if (optAlwaysReturnList) {
                     return (T) configuration.jsonProvider().createArray();
@@ -218,7 +375,7 @@ public class JsonPath {
     public <T> T set(Object jsonObject, Object newVal, Configuration configuration) {
         notNull(jsonObject, "json can not be null");
         notNull(configuration, "configuration can not be null");
-        EvaluationContext evaluationContext = path.evaluate(jsonObject, jsonObject, configuration, true);
+        EvaluationContext evaluationContext = evaluate(jsonObject, configuration, true);
         if (evaluationContext.getPathList().isEmpty()) {
             boolean optSuppressExceptions = configuration.containsOption(Option.SUPPRESS_EXCEPTIONS);
             if (optSuppressExceptions) {
@@ -246,7 +403,7 @@ public class JsonPath {
         notNull(jsonObject, "json can not be null");
         notNull(configuration, "configuration can not be null");
         notNull(mapFunction, "mapFunction can not be null");
-        EvaluationContext evaluationContext = path.evaluate(jsonObject, jsonObject, configuration, true);
+        EvaluationContext evaluationContext = evaluate(jsonObject, configuration, true);
         if (evaluationContext.getPathList().isEmpty()) {
             boolean optSuppressExceptions = configuration.containsOption(Option.SUPPRESS_EXCEPTIONS);
             if (optSuppressExceptions) {
@@ -273,7 +430,7 @@ public class JsonPath {
     public <T> T delete(Object jsonObject, Configuration configuration) {
         notNull(jsonObject, "json can not be null");
         notNull(configuration, "configuration can not be null");
-        EvaluationContext evaluationContext = path.evaluate(jsonObject, jsonObject, configuration, true);
+        EvaluationContext evaluationContext = evaluate(jsonObject, configuration, true);
         if (evaluationContext.getPathList().isEmpty()) {
             boolean optSuppressExceptions = configuration.containsOption(Option.SUPPRESS_EXCEPTIONS);
             if (optSuppressExceptions) {
@@ -300,7 +457,7 @@ public class JsonPath {
     public <T> T add(Object jsonObject, Object value, Configuration configuration) {
         notNull(jsonObject, "json can not be null");
         notNull(configuration, "configuration can not be null");
-        EvaluationContext evaluationContext = path.evaluate(jsonObject, jsonObject, configuration, true);
+        EvaluationContext evaluationContext = evaluate(jsonObject, configuration, true);
         if (evaluationContext.getPathList().isEmpty()) {
             boolean optSuppressExceptions = configuration.containsOption(Option.SUPPRESS_EXCEPTIONS);
             if (optSuppressExceptions) {
@@ -329,7 +486,7 @@ public class JsonPath {
         notNull(jsonObject, "json can not be null");
         notEmpty(key, "key can not be null or empty");
         notNull(configuration, "configuration can not be null");
-        EvaluationContext evaluationContext = path.evaluate(jsonObject, jsonObject, configuration, true);
+        EvaluationContext evaluationContext = evaluate(jsonObject, configuration, true);
         if (evaluationContext.getPathList().isEmpty()) {
             boolean optSuppressExceptions = configuration.containsOption(Option.SUPPRESS_EXCEPTIONS);
             if (optSuppressExceptions) {
@@ -348,7 +505,7 @@ public class JsonPath {
         notNull(jsonObject, "json can not be null");
         notEmpty(newKeyName, "newKeyName can not be null or empty");
         notNull(configuration, "configuration can not be null");
-        EvaluationContext evaluationContext = path.evaluate(jsonObject, jsonObject, configuration, true);
+        EvaluationContext evaluationContext = evaluate(jsonObject, configuration, true);
         for (PathRef updateOperation : evaluationContext.updateOperations()) {
             boolean optSuppressExceptions = configuration.containsOption(Option.SUPPRESS_EXCEPTIONS);
             try {
@@ -496,6 +653,37 @@ public class JsonPath {
         }
     }
 
+    /**
+     * Applies this JsonPath to the provided json input stream without parsing the whole document.
+     * <p/>
+     * The stream is read token by token and only the values matched by the path are handed to the
+     * {@link JsonProvider}, everything else is skipped. A definite path stops reading as soon as its value
+     * is found. The result is the same as {@link #read(InputStream, Configuration)} would return.
+     * <p/>
+     * The stream must hold a single json document, NDJSON is not supported and content after the document
+     * fails with an {@link InvalidJsonException}.
+     * <p/>
+     * Requires jackson-core on the classpath, the encoding of the stream is detected automatically.
+     *
+     * @param jsonInputStream input stream to read from
+     * @param configuration   configuration to use
+     * @param <T>             expected return type
+     * @return object(s) matched by the given path
+     * @throws IOException
+     * @throws JsonPathException if this path is not {@link #isStreamable() streamable} or jackson-core is not on the classpath
+     */
+    @SuppressWarnings({"unchecked"})
+    public <T> T readStream(InputStream jsonInputStream, Configuration configuration) throws IOException {
+        notNull(jsonInputStream, "json input stream can not be null");
+        notNull(configuration, "configuration can not be null");
+
+        try {
+            return readResult(path.evaluate(jsonInputStream, configuration), configuration);
+        } finally {
+            Utils.closeQuietly(jsonInputStream);
+        }
+    }
+
     // --------------------------------------------------------
     //
     // Static factory methods
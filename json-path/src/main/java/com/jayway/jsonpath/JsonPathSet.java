@@ -0,0 +1,264 @@
+/*
+ * Copyright 2011 the original author or authors.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jayway.jsonpath;
+
+import com.jayway.jsonpath.internal.EvaluationContext;
+import com.jayway.jsonpath.internal.Path;
+import com.jayway.jsonpath.internal.path.CompiledPathSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.jayway.jsonpath.internal.Utils.isTrue;
+import static com.jayway.jsonpath.internal.Utils.notNull;
+import static com.jayway.jsonpath.internal.Utils.toPublicException;
+
+/**
+ * A set of paths that are read from a document in a single traversal.
+ *
+ * Reading many paths from the same document one by one walks the document from the root for every path. A
+ * JsonPathSet merges the paths so that the parts they have in common are only evaluated once, the lines of an order
+ * are visited once for all of the following paths and not once per path:
+ *
+ * <pre>
+ * JsonPathSet paths = JsonPathSet.compile("$.order.id", "$.order.lines[*].sku", "$.order.lines[*].price");
+ *
+ * JsonPathSet.Results results = paths.read(document, configuration);
+ *
+ * String id = results.read("$.order.id");
+ * List&lt;String&gt; skus = results.read("$.order.lines[*].sku");
+ * </pre>
+ *
+ * The result of every path is the same as {@link JsonPath#read(Object, Configuration)} would return, including the
+ * exception if the path can not be read. That exception is thrown when the result of the path is asked for, so one
+ * missing path does not fail the others.
+ *
+ * A JsonPathSet is immutable and can be shared between threads.
+ */
+public class JsonPathSet {
+
+    private final List<JsonPath> paths;
+    private final Map<String, Integer> indexes;
+    private final CompiledPathSet compiledPathSet;
+    private final int[] compiledIndexes;
+
+    private JsonPathSet(List<String> paths) {
+        notNull(paths, "paths can not be null");
+        isTrue(!paths.isEmpty(), "paths can not be empty");
+
+        List<JsonPath> jsonPaths = new ArrayList<JsonPath>(paths.size());
+        Map<String, Integer> indexes = new HashMap<String, Integer>();
+        List<Path> shared = new ArrayList<Path>();
+        this.compiledIndexes = new int[paths.size()];
+        for (int i = 0; i < paths.size(); i++) {
+            String path = paths.get(i);
+            JsonPath jsonPath = JsonPath.compile(path);
+            jsonPaths.add(jsonPath);
+            if (!indexes.containsKey(path)) {
+                indexes.put(path, i);
+            }
+            // functions are applied to the result of their path, they are read one by one
+            if (jsonPath.isFunctionPath()) {
+                compiledIndexes[i] = -1;
+            } else {
+                compiledIndexes[i] = shared.size();
+                shared.add(jsonPath.compiledPath());
+            }
+        }
+        this.paths = Collections.unmodifiableList(jsonPaths);
+        this.indexes = indexes;
+        this.compiledPathSet = shared.isEmpty() ? null : new CompiledPathSet(shared);
+    }
+
+    /**
+     * Compiles a set of paths
+     *
+     * @param paths the paths to compile
+     * @return compiled JsonPathSet
+     */
+    public static JsonPathSet compile(String... paths) {
+        notNull(paths, "paths can not be null");
+        return new JsonPathSet(Arrays.asList(paths));
+    }
+
+    /**
+     * Compiles a set of paths
+     *
+     * @param paths the paths to compile
+     * @return compiled JsonPathSet
+     */
+    public static JsonPathSet compile(Collection<String> paths) {
+        notNull(paths, "paths can not be null");
+        return new JsonPathSet(new ArrayList<String>(paths));
+    }
+
+    /**
+     * @return the paths of this set, in the order they were given
+     */
+    public List<JsonPath> getPaths() {
+        return paths;
+    }
+
+    /**
+     * @return the number of paths in this set
+     */
+    public int size() {
+        return paths.size();
+    }
+
+    /**
+     * Reads all paths of this set from the provided json document
+     *
+     * @param jsonObject a container Object
+     * @return the results of the paths
+     */
+    public Results read(Object jsonObject) {
+        return read(jsonObject, Configuration.defaultConfiguration());
+    }
+
+    /**
+     * Reads all paths of this set from the document of the provided context
+     *
+     * @param context a parsed document
+     * @return the results of the paths
+     */
+    public Results read(ReadContext context) {
+        notNull(context, "context can not be null");
+        return read(context.json(), context.configuration());
+    }
+
+    /**
+     * Reads all paths of this set from the provided json document
+     *
+     * @param jsonObject    a container Object
+     * @param configuration configuration to use
+     * @return the results of the paths
+     */
+    public Results read(Object jsonObject, Configuration configuration) {
+        notNull(jsonObject, "json can not be null");
+        notNull(configuration, "configuration can not be null");
+
+        List<EvaluationContext> contexts = compiledPathSet == null
+                ? Collections.<EvaluationContext>emptyList()
+                : compiledPathSet.evaluate(jsonObject, configuration);
+
+        Object[] values = new Object[paths.size()];
+        RuntimeException[] failures = new RuntimeException[paths.size()];
+        for (int i = 0; i < paths.size(); i++) {
+            JsonPath path = paths.get(i);
+            try {
+                if (compiledIndexes[i] == -1) {
+                    values[i] = path.read(jsonObject, configuration);
+                } else {
+                    values[i] = path.readResult(contexts.get(compiledIndexes[i]), configuration);
+                }
+            } catch (RuntimeException e) {
+                failures[i] = toPublicException(e);
+            }
+        }
+        return new Results(this, configuration, values, failures);
+    }
+
+    @Override
+    public String toString() {
+        return paths.toString();
+    }
+
+    /**
+     * The results of reading a {@link JsonPathSet}
+     */
+    public static class Results {
+
+        private final JsonPathSet set;
+        private final Configuration configuration;
+        private final Object[] values;
+        private final RuntimeException[] failures;
+
+        private Results(JsonPathSet set, Configuration configuration, Object[] values, RuntimeException[] failures) {
+            this.set = set;
+            this.configuration = configuration;
+            this.values = values;
+            this.failures = failures;
+        }
+
+        /**
+         * Returns the result of the path at the given position of the set
+         *
+         * @param index position of the path in the set
+         * @param <T>   expected return type
+         * @return object(s) matched by the path
+         * @throws JsonPathException the exception reading the path on its own would have thrown
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T read(int index) {
+            if (failures[index] != null) {
+                throw failures[index];
+            }
+            return (T) values[index];
+        }
+
+        /**
+         * Returns the result of the given path
+         *
+         * @param path a path of the set, as it was given when the set was compiled
+         * @param <T>  expected return type
+         * @return object(s) matched by the path
+         * @throws JsonPathException the exception reading the path on its own would have thrown
+         */
+        public <T> T read(String path) {
+            Integer index = set.indexes.get(path);
+            if (index == null) {
+                throw new IllegalArgumentException("Path " + path + " is not part of the set " + set);
+            }
+            return read(index);
+        }
+
+        /**
+         * Returns the result of the given path mapped to the given type
+         *
+         * @param path a path of the set, as it was given when the set was compiled
+         * @param type expected return type (will try to map)
+         * @param <T>  expected return type
+         * @return object(s) matched by the path
+         */
+        public <T> T read(String path, Class<T> type) {
+            return configuration.mappingProvider().map(read(path), type, configuration);
+        }
+
+        /**
+         * Returns the result of the given path mapped to the given type
+         *
+         * @param path a path of the set, as it was given when the set was compiled
+         * @param type expected return type (will try to map)
+         * @param <T>  expected return type
+         * @return object(s) matched by the path
+         */
+        public <T> T read(String path, TypeRef<T> type) {
+            return configuration.mappingProvider().map(read(path), type, configuration);
+        }
+
+        /**
+         * @return the number of results, one per path of the set
+         */
+        public int size() {
+            return values.length;
+        }
+    }
+}
@@ -18,6 +18,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 
 
 /**
@@ -37,6 +39,23 @@ public interface ParseContext {
 
     DocumentContext parseUtf8(byte[] json);
 
+    /**
+     * Parses the remaining UTF-8 bytes of the given buffer, the position of the buffer is not changed.
+     */
+    default DocumentContext parse(ByteBuffer json) {
+        byte[] bytes = new byte[json.remaining()];
+        json.duplicate().get(bytes);
+        return parseUtf8(bytes);
+    }
+
+    /**
+     * Parses the given UTF-8 file, implementations may memory map large files rather than read them through a stream
+     * when the json provider parses buffers without copying them.
+     */
+    default DocumentContext parse(Path json) throws IOException {
+        return parse(json.toFile());
+    }
+
     @Deprecated
     DocumentContext parse(URL json) throws IOException;
 }
@@ -14,6 +14,9 @@
  */
 package com.jayway.jsonpath;
 
+import java.util.Map;
+import java.util.stream.Stream;
+
 public interface ReadContext {
 
     /**
@@ -67,6 +70,31 @@ public interface ReadContext {
      */
     <T> T read(JsonPath path);
 
+    /**
+     * Reads the given path from this context, the parameters of its filters take the given values
+     *
+     * @param path       path to read
+     * @param parameters values of the filter parameters by name, see {@link JsonPath#read(Object, Configuration, Map)}
+     * @param filters    filters
+     * @param <T>
+     * @return result
+     */
+    default <T> T read(String path, Map<String, ?> parameters, Predicate... filters) {
+        return read(JsonPath.compile(path, filters), parameters);
+    }
+
+    /**
+     * Reads the given path from this context, the parameters of its filters take the given values
+     *
+     * @param path       path to apply
+     * @param parameters values of the filter parameters by name, see {@link JsonPath#read(Object, Configuration, Map)}
+     * @param <T>
+     * @return result
+     */
+    default <T> T read(JsonPath path, Map<String, ?> parameters) {
+        return path.read(json(), configuration(), parameters);
+    }
+
     /**
      * Reads the given path from this context
      *
@@ -107,6 +135,31 @@ public interface ReadContext {
      */
     <T> T read(String path, TypeRef<T> typeRef);
 
+    /**
+     * Streams the results of the given path from this context, the path is evaluated as the stream is consumed
+     *
+     * @param path    path to read
+     * @param filters filters
+     * @param <T>
+     * @return stream of results
+     * @see JsonPath#stream(Object, Configuration)
+     */
+    default <T> Stream<T> stream(String path, Predicate... filters) {
+        return stream(JsonPath.compile(path, filters));
+    }
+
+    /**
+     * Streams the results of the given path from this context, the path is evaluated as the stream is consumed
+     *
+     * @param path path to apply
+     * @param <T>
+     * @return stream of results
+     * @see JsonPath#stream(Object, Configuration)
+     */
+    default <T> Stream<T> stream(JsonPath path) {
+        return path.stream(json(), configuration());
+    }
+
     /**
      * Stops evaluation when maxResults limit has been reached
      * @param maxResults
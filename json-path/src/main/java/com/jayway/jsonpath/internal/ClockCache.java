@@ -0,0 +1,150 @@
+/*
+ * Copyright 2011 the original author or authors.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jayway.jsonpath.internal;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded map with lock free reads and an approximate LRU eviction policy.
+ *
+ * Entries live in a {@link ConcurrentHashMap}. A hit only sets a "referenced" flag on the entry, so reads never
+ * block and never reorder a shared structure. When the map grows past its limit the writer that pushed it over
+ * runs the CLOCK (second chance) algorithm: it sweeps the entries, clearing the flag on referenced entries and
+ * evicting the first one that has not been referenced since the previous sweep.
+ *
+ * @param <T> type of the cached values
+ */
+public final class ClockCache<T> {
+
+    private final ConcurrentHashMap<String, Entry<T>> map;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final int limit;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // guarded by evictionLock
+    private Iterator<Map.Entry<String, Entry<T>>> hand;
+
+    public ClockCache(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Cache limit must be greater than zero");
+        }
+        this.limit = limit;
+        this.map = new ConcurrentHashMap<String, Entry<T>>(Math.min(limit, 1 << 16));
+    }
+
+    public T get(String key) {
+        Entry<T> entry = map.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (!entry.referenced) {
+            // only write when needed to avoid invalidating the cache line on every hit
+            entry.referenced = true;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    public void put(String key, T value) {
+        Entry<T> previous = map.put(key, new Entry<T>(value));
+        if (previous == null && map.size() > limit) {
+            evict();
+        }
+    }
+
+    private void evict() {
+        // When another writer is already evicting it will bring the size back under the limit. The size is checked
+        // again after releasing the lock to catch entries added while the lock was held.
+        while (map.size() > limit && evictionLock.tryLock()) {
+            try {
+                while (map.size() > limit) {
+                    if (hand == null || !hand.hasNext()) {
+                        hand = map.entrySet().iterator();
+                        if (!hand.hasNext()) {
+                            return;
+                        }
+                    }
+                    Map.Entry<String, Entry<T>> candidate = hand.next();
+                    Entry<T> entry = candidate.getValue();
+                    if (entry.referenced) {
+                        entry.referenced = false;
+                    } else if (map.remove(candidate.getKey(), entry)) {
+                        evictions.increment();
+                    }
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Looks up a value without counting the lookup or marking the value as referenced
+     */
+    public T getSilent(String key) {
+        Entry<T> entry = map.get(key);
+        return entry == null ? null : entry.value;
+    }
+
+    public void remove(String key) {
+        map.remove(key);
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * @return the number of lookups that found a cached value
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that did not find a cached value
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of values removed to keep the cache within its limit
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private static final class Entry<T> {
+        private final T value;
+        private volatile boolean referenced;
+
+        private Entry(T value) {
+            this.value = value;
+        }
+    }
+}
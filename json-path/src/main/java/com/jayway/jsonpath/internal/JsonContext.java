@@ -29,8 +29,9 @@ import com.jayway.jsonpath.spi.cache.CacheProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static com.jayway.jsonpath.JsonPath.compile;
 import static com.jayway.jsonpath.internal.Utils.notEmpty;
@@ -88,6 +89,18 @@ public class JsonContext implements DocumentContext {
         return path.read(json, configuration);
     }
 
+    @Override
+    public <T> T read(String path, Map<String, ?> parameters, Predicate... filters) {
+        notEmpty(path, "path can not be null or empty");
+        return read(pathFromCache(path, filters), parameters);
+    }
+
+    @Override
+    public <T> T read(JsonPath path, Map<String, ?> parameters) {
+        notNull(path, "path can not be null");
+        return path.read(json, configuration, parameters);
+    }
+
     @Override
     public <T> T read(JsonPath path, Class<T> type) {
         return convert(read(path), type, configuration);
@@ -103,6 +116,18 @@ public class JsonContext implements DocumentContext {
         return convert(read(path), type, configuration);
     }
 
+    @Override
+    public <T> Stream<T> stream(String path, Predicate... filters) {
+        notEmpty(path, "path can not be null or empty");
+        return stream(pathFromCache(path, filters));
+    }
+
+    @Override
+    public <T> Stream<T> stream(JsonPath path) {
+        notNull(path, "path can not be null");
+        return path.stream(json, configuration);
+    }
+
     @Override
     public ReadContext limit(int maxResults) {
         return withListeners(new LimitingEvaluationListener(maxResults));
@@ -214,9 +239,12 @@ public class JsonContext implements DocumentContext {
     }
 
     private JsonPath pathFromCache(String path, Predicate[] filters) {
-        Cache cache = CacheProvider.getCache();
+        Cache cache = configuration.cache();
+        if (cache == null) {
+            cache = CacheProvider.getCache();
+        }
         String cacheKey = filters == null || filters.length == 0
-            ? path : Utils.concat(path, Arrays.toString(filters));
+            ? path : cacheKey(path, filters);
         JsonPath jsonPath = cache.get(cacheKey);
         if (jsonPath == null) {
             jsonPath = compile(path, filters);
@@ -225,6 +253,20 @@ public class JsonContext implements DocumentContext {
         return jsonPath;
     }
 
+    /**
+     * @return the path followed by the filters, like <code>Arrays.toString(filters)</code> formats them
+     */
+    private static String cacheKey(String path, Predicate[] filters) {
+        StringBuilder sb = new StringBuilder(path.length() + 32 * filters.length).append(path).append('[');
+        for (int i = 0; i < filters.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(filters[i]);
+        }
+        return sb.append(']').toString();
+    }
+
     private final static class LimitingEvaluationListener implements EvaluationListener {
         final int limit;
 
@@ -0,0 +1,37 @@
+package com.jayway.jsonpath.internal;
+
+import com.jayway.jsonpath.PathNotFoundException;
+
+/**
+ * Thrown by the evaluation when a path does not lead anywhere. Most of these are caught while evaluating filters
+ * and wildcards, so the message is only formatted when it is asked for and there is no stack.
+ * {@link com.jayway.jsonpath.JsonPath} throws a plain {@link PathNotFoundException} in its place.
+ */
+public class MissingPathException extends PathNotFoundException {
+
+    private static final long serialVersionUID = 3462811742573648203L;
+
+    private final String format;
+    private final Object[] args;
+    private String message;
+
+    public MissingPathException(String format, Object... args) {
+        this.format = format;
+        this.args = args;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            message = args.length == 0 ? format : String.format(format, args);
+        }
+        return message;
+    }
+
+    /**
+     * @return the exception to throw to the caller of the evaluation
+     */
+    public PathNotFoundException toPublicException() {
+        return new PathNotFoundException(getMessage());
+    }
+}
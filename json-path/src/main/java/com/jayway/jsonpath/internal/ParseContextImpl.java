@@ -3,18 +3,26 @@ package com.jayway.jsonpath.internal;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.ParseContext;
+import com.jayway.jsonpath.spi.json.JsonProvider;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import static com.jayway.jsonpath.internal.Utils.notEmpty;
 import static com.jayway.jsonpath.internal.Utils.notNull;
 
 public class ParseContextImpl implements ParseContext {
 
+    // smaller files are read into an array, mapping them costs more than it saves
+    private static final long MAPPED_FILE_THRESHOLD = 1024 * 1024;
+
     private final Configuration configuration;
 
     public ParseContextImpl() {
@@ -62,15 +70,53 @@ public class ParseContextImpl implements ParseContext {
         }
     }
 
+    @Override
+    public DocumentContext parse(ByteBuffer json) {
+        notNull(json, "json buffer can not be null");
+        if (!json.hasRemaining()) {
+            throw new IllegalArgumentException("json buffer can not be empty");
+        }
+        Object obj = configuration.jsonProvider().parse(json);
+        return new JsonContext(obj, configuration);
+    }
+
     @Override
     public DocumentContext parse(File json) throws IOException {
         notNull(json, "json file can not be null");
-        FileInputStream fis = null;
+        return parse(json.toPath());
+    }
+
+    @Override
+    public DocumentContext parse(Path json) throws IOException {
+        notNull(json, "json path can not be null");
+        if (!parsesBuffers(configuration.jsonProvider())) {
+            // the provider would copy a mapped file into an array and a string, reading it as a stream costs less
+            return parse(Files.newInputStream(json));
+        }
+        try (FileChannel channel = FileChannel.open(json, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < MAPPED_FILE_THRESHOLD) {
+                Object obj = configuration.jsonProvider().parse(Files.readAllBytes(json));
+                return new JsonContext(obj, configuration);
+            }
+            if (size > Integer.MAX_VALUE) {
+                // a buffer can not map more than 2GB
+                return parse(Files.newInputStream(json));
+            }
+            Object obj = configuration.jsonProvider().parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            return new JsonContext(obj, configuration);
+        }
+    }
+
+    /**
+     * @return true if the provider parses a buffer itself rather than copying it as {@link JsonProvider#parse(ByteBuffer)}
+     *         does by default
+     */
+    private static boolean parsesBuffers(JsonProvider jsonProvider) {
         try {
-            fis = new FileInputStream(json);
-            return parse(fis);
-        } finally {
-            Utils.closeQuietly(fis);
+            return jsonProvider.getClass().getMethod("parse", ByteBuffer.class).getDeclaringClass() != JsonProvider.class;
+        } catch (NoSuchMethodException e) {
+            return false;
         }
     }
 
@@ -15,6 +15,13 @@
 package com.jayway.jsonpath.internal;
 
 import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.internal.filter.ValueNode;
+import com.jayway.jsonpath.internal.filter.ValueNodes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
 
 /**
  *
@@ -43,6 +50,67 @@ public interface Path {
      */
     EvaluationContext evaluate(Object document, Object rootDocument, Configuration configuration, boolean forUpdate);
 
+    /**
+     * Evaluates this path, the parameters of its filters take the given values
+     *
+     * @param document the json document to apply the path on
+     * @param rootDocument the root json document that started this evaluation
+     * @param configuration configuration to use
+     * @param forUpdate is this a read or a write operation
+     * @param parameters values of the filter parameters, see {@link ValueNodes.ParameterNode#bind(Map)}
+     * @return EvaluationContext containing results of evaluation
+     */
+    EvaluationContext evaluate(Object document, Object rootDocument, Configuration configuration, boolean forUpdate, Map<String, ValueNode> parameters);
+
+    /**
+     * Checks if this path matches the document the way a filter exists-check does, with properties required
+     *
+     * @param document the json document to apply the path on
+     * @param rootDocument the root json document that started this evaluation
+     * @param configuration configuration to use, only its json provider is used
+     * @return true if evaluating this path with {@link com.jayway.jsonpath.Option#REQUIRE_PROPERTIES} finds a value
+     */
+    boolean exists(Object document, Object rootDocument, Configuration configuration);
+
+    /**
+     * Checks if this path matches the document like {@link #exists(Object, Object, Configuration)}, the parameters
+     * of its filters take the given values
+     *
+     * @param document the json document to apply the path on
+     * @param rootDocument the root json document that started this evaluation
+     * @param configuration configuration to use, only its json provider is used
+     * @param parameters values of the filter parameters, see {@link ValueNodes.ParameterNode#bind(Map)}
+     * @return true if evaluating this path with {@link com.jayway.jsonpath.Option#REQUIRE_PROPERTIES} finds a value
+     */
+    boolean exists(Object document, Object rootDocument, Configuration configuration, Map<String, ValueNode> parameters);
+
+    /**
+     * Evaluates this path as its results are iterated, the evaluation stops where the iteration stops
+     *
+     * @param document the json document to apply the path on
+     * @param rootDocument the root json document that started this evaluation
+     * @param configuration configuration to use
+     * @return iterator over the values matched by this path, or their paths if {@link com.jayway.jsonpath.Option#AS_PATH_LIST} is set
+     */
+    Iterator<Object> iterate(Object document, Object rootDocument, Configuration configuration);
+
+    /**
+     * Evaluates this path while reading the json document from the stream, without building the document
+     *
+     * @param jsonInputStream the json document to apply the path on
+     * @param configuration configuration to use
+     * @return EvaluationContext containing results of evaluation
+     * @throws IOException if the stream can not be read
+     * @see #isStreamable()
+     */
+    EvaluationContext evaluate(InputStream jsonInputStream, Configuration configuration) throws IOException;
+
+    /**
+     *
+     * @return true if this path can be evaluated on a stream
+     */
+    boolean isStreamable();
+
     /**
      *
      * @return true id this path is definite
@@ -0,0 +1,43 @@
+package com.jayway.jsonpath.internal;
+
+import com.jayway.jsonpath.InvalidPathException;
+
+/**
+ * Thrown by the evaluation when a filter or a value does not apply to the value it is given. A predicate that
+ * throws it does not match, so the message is only formatted when it is asked for and there is no stack.
+ * {@link com.jayway.jsonpath.JsonPath} throws a plain {@link InvalidPathException} in its place.
+ */
+public class PathMismatchException extends InvalidPathException {
+
+    private static final long serialVersionUID = -6182731207311764325L;
+
+    private final String format;
+    private final Object[] args;
+    private String message;
+
+    public PathMismatchException(String format, Object... args) {
+        this.format = format;
+        this.args = args;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            message = args.length == 0 ? format : String.format(format, args);
+        }
+        return message;
+    }
+
+    /**
+     * @return the exception to throw to the caller of the evaluation
+     */
+    public InvalidPathException toPublicException() {
+        return new InvalidPathException(getMessage());
+    }
+
+    // a mismatch only ends the evaluation of a predicate, we don't care about the stack
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -458,6 +458,21 @@ public final class Utils {
         return o.toString();
     }
 
+    /**
+     * Replaces the exceptions the evaluation uses internally with the public exceptions they stand for
+     *
+     * @param e an exception thrown by the evaluation
+     * @return the exception to throw to the caller
+     */
+    public static RuntimeException toPublicException(RuntimeException e) {
+        if (e instanceof MissingPathException) {
+            return ((MissingPathException) e).toPublicException();
+        } else if (e instanceof PathMismatchException) {
+            return ((PathMismatchException) e).toPublicException();
+        }
+        return e;
+    }
+
     private Utils() {
     }
 }
@@ -54,16 +54,20 @@ public class EvaluatorFactory {
     }
 
     private static class NotEqualsEvaluator implements Evaluator {
+        private final Evaluator equals = new EqualsEvaluator();
+
         @Override
         public boolean evaluate(ValueNode left, ValueNode right, Predicate.PredicateContext ctx) {
-            return !evaluators.get(RelationalOperator.EQ).evaluate(left, right, ctx);
+            return !equals.evaluate(left, right, ctx);
         }
     }
 
     private static class TypeSafeNotEqualsEvaluator implements Evaluator {
+        private final Evaluator typeSafeEquals = new TypeSafeEqualsEvaluator();
+
         @Override
         public boolean evaluate(ValueNode left, ValueNode right, Predicate.PredicateContext ctx) {
-            return !evaluators.get(RelationalOperator.TSEQ).evaluate(left, right, ctx);
+            return !typeSafeEquals.evaluate(left, right, ctx);
         }
     }
 
@@ -79,12 +83,14 @@ public class EvaluatorFactory {
     }
 
     private static class TypeSafeEqualsEvaluator implements Evaluator {
+        private final Evaluator equals = new EqualsEvaluator();
+
         @Override
         public boolean evaluate(ValueNode left, ValueNode right, Predicate.PredicateContext ctx) {
             if(!left.getClass().equals(right.getClass())){
                 return false;
             }
-            return evaluators.get(RelationalOperator.EQ).evaluate(left, right, ctx);
+            return equals.evaluate(left, right, ctx);
         }
     }
 
@@ -99,7 +105,7 @@ public class EvaluatorFactory {
         @Override
         public boolean evaluate(ValueNode left, ValueNode right, Predicate.PredicateContext ctx) {
             if(left.isNumberNode() && right.isNumberNode()){
-                return left.asNumberNode().getNumber().compareTo(right.asNumberNode().getNumber()) < 0;
+                return left.asNumberNode().compareTo(right.asNumberNode()) < 0;
             } if(left.isStringNode() && right.isStringNode()){
                 return left.asStringNode().getString().compareTo(right.asStringNode().getString()) < 0;
             } if (left.isOffsetDateTimeNode() && right.isOffsetDateTimeNode()){ //workaround for issue: https://github.com/json-path/JsonPath/issues/613
@@ -113,7 +119,7 @@ public class EvaluatorFactory {
         @Override
         public boolean evaluate(ValueNode left, ValueNode right, Predicate.PredicateContext ctx) {
             if(left.isNumberNode() && right.isNumberNode()){
-                return left.asNumberNode().getNumber().compareTo(right.asNumberNode().getNumber()) <= 0;
+                return left.asNumberNode().compareTo(right.asNumberNode()) <= 0;
             } if(left.isStringNode() && right.isStringNode()){
                 return left.asStringNode().getString().compareTo(right.asStringNode().getString()) <= 0;
             } if (left.isOffsetDateTimeNode() && right.isOffsetDateTimeNode()){ //workaround for issue: https://github.com/json-path/JsonPath/issues/613
@@ -127,7 +133,7 @@ public class EvaluatorFactory {
         @Override
         public boolean evaluate(ValueNode left, ValueNode right, Predicate.PredicateContext ctx) {
             if(left.isNumberNode() && right.isNumberNode()){
-                return left.asNumberNode().getNumber().compareTo(right.asNumberNode().getNumber()) > 0;
+                return left.asNumberNode().compareTo(right.asNumberNode()) > 0;
             } else if(left.isStringNode() && right.isStringNode()){
                 return left.asStringNode().getString().compareTo(right.asStringNode().getString()) > 0;
             } else if (left.isOffsetDateTimeNode() && right.isOffsetDateTimeNode()){ //workaround for issue: https://github.com/json-path/JsonPath/issues/613
@@ -141,7 +147,7 @@ public class EvaluatorFactory {
         @Override
         public boolean evaluate(ValueNode left, ValueNode right, Predicate.PredicateContext ctx) {
             if(left.isNumberNode() && right.isNumberNode()){
-                return left.asNumberNode().getNumber().compareTo(right.asNumberNode().getNumber()) >= 0;
+                return left.asNumberNode().compareTo(right.asNumberNode()) >= 0;
             } else if(left.isStringNode() && right.isStringNode()){
                 return left.asStringNode().getString().compareTo(right.asStringNode().getString()) >= 0;
             } else if (left.isOffsetDateTimeNode() && right.isOffsetDateTimeNode()){ //workaround for issue: https://github.com/json-path/JsonPath/issues/613
@@ -199,9 +205,11 @@ public class EvaluatorFactory {
     }
 
     private static class NotInEvaluator implements Evaluator {
+        private final Evaluator in = new InEvaluator();
+
         @Override
         public boolean evaluate(ValueNode left, ValueNode right, Predicate.PredicateContext ctx) {
-            return !evaluators.get(RelationalOperator.IN).evaluate(left, right, ctx);
+            return !in.evaluate(left, right, ctx);
         }
     }
 
@@ -362,10 +370,8 @@ public class EvaluatorFactory {
             }
 
             for (ValueNode leftValueNode : leftValueListNode) {
-                for (ValueNode rightValueNode : rightValueListNode) {
-                    if (leftValueNode.equals(rightValueNode)) {
-                        return true;
-                    }
+                if (rightValueListNode.contains(leftValueNode)) {
+                    return true;
                 }
             }
             return false;
@@ -399,10 +405,8 @@ public class EvaluatorFactory {
             }
 
             for (ValueNode leftValueNode : leftValueListNode) {
-                for (ValueNode rightValueNode : rightValueListNode) {
-                    if (leftValueNode.equals(rightValueNode)) {
-                        return false;
-                    }
+                if (rightValueListNode.contains(leftValueNode)) {
+                    return false;
                 }
             }
             return true;
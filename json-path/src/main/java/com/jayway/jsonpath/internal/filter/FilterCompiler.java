@@ -46,6 +46,7 @@ public class FilterCompiler  {
     private static final char NOT = '!';
     private static final char PATTERN = '/';
     private static final char IGNORE_CASE = 'i';
+    private static final char PARAMETER = ':';
 
     private CharacterIndex filter;
 
@@ -54,6 +55,14 @@ public class FilterCompiler  {
         return new CompiledFilter(compiler.compile());
     }
 
+    /**
+     * @param predicate the predicate to check
+     * @return true if the predicate was compiled from a filter expression, it does not keep the context it is applied to
+     */
+    public static boolean isCompiled(Predicate predicate) {
+        return predicate instanceof CompiledFilter;
+    }
+
     private FilterCompiler(String filterString) {
         filter = new CharacterIndex(filterString);
         filter.trim();
@@ -116,6 +125,7 @@ public class FilterCompiler  {
             case OPEN_OBJECT: return readJsonLiteral();
             case OPEN_ARRAY: return readJsonLiteral();
             case PATTERN: return readPattern();
+            case PARAMETER: return readParameter();
             default:    return readNumberLiteral();
         }
     }
@@ -333,6 +343,20 @@ public class FilterCompiler  {
         return ValueNode.createNumberNode(numberLiteral);
     }
 
+    private ParameterNode readParameter() {
+        int begin = filter.position();
+        filter.incrementPosition(1);
+        while (filter.inBounds() && isParameterNameChar(filter.currentChar())) {
+            filter.incrementPosition(1);
+        }
+        if (filter.position() == begin + 1) {
+            throw new InvalidPathException("Expected parameter name after " + PARAMETER + " in " + filter);
+        }
+        CharSequence name = filter.subSequence(begin + 1, filter.position());
+        logger.trace("Parameter from {} to {} -> [{}]", begin, filter.position(), name);
+        return ValueNode.createParameterNode(name.toString());
+    }
+
     private BooleanNode readBooleanLiteral() {
         int begin = filter.position();
         int end = filter.currentChar() == TRUE ? filter.position() + 3 : filter.position() + 4;
@@ -413,6 +437,10 @@ public class FilterCompiler  {
         return c == AND || c == OR;
     }
 
+    private boolean isParameterNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
     private boolean isRelationalOperatorChar(char c) {
         return c == LT || c == GT || c == EQ || c == TILDE || c == NOT;
     }
@@ -420,6 +448,7 @@ public class FilterCompiler  {
     private static final class CompiledFilter extends Filter {
 
         private final Predicate predicate;
+        private volatile String text;
 
         private CompiledFilter(Predicate predicate) {
             this.predicate = predicate;
@@ -430,14 +459,22 @@ public class FilterCompiler  {
             return predicate.apply(ctx);
         }
 
+        /**
+         * A compiled filter does not change, its text is built once
+         */
         @Override
         public String toString() {
-            String predicateString = predicate.toString();
-            if(predicateString.startsWith("(")){
-                return "[?" + predicateString + "]";
-            } else {
-                return "[?(" + predicateString + ")]";
+            String t = text;
+            if (t == null) {
+                String predicateString = predicate.toString();
+                if(predicateString.startsWith("(")){
+                    t = "[?" + predicateString + "]";
+                } else {
+                    t = "[?(" + predicateString + ")]";
+                }
+                text = t;
             }
+            return t;
         }
     }
 }
@@ -66,15 +66,15 @@ public class LogicalExpressionNode extends ExpressionNode {
     @Override
     public boolean apply(PredicateContext ctx) {
         if(operator == LogicalOperator.OR){
-            for (ExpressionNode expression : chain) {
-                if(expression.apply(ctx)){
+            for (int i = 0; i < chain.size(); i++) {
+                if(chain.get(i).apply(ctx)){
                     return true;
                 }
             }
             return false;
         } else if (operator == LogicalOperator.AND) {
-            for (ExpressionNode expression : chain) {
-                if(!expression.apply(ctx)){
+            for (int i = 0; i < chain.size(); i++) {
+                if(!chain.get(i).apply(ctx)){
                     return false;
                 }
             }
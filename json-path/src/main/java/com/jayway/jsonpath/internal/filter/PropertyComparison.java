@@ -0,0 +1,189 @@
+package com.jayway.jsonpath.internal.filter;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.Predicate;
+import com.jayway.jsonpath.internal.path.CompiledPath;
+import com.jayway.jsonpath.spi.json.JsonProvider;
+
+import static com.jayway.jsonpath.internal.filter.ValueNodes.NumberNode;
+
+/**
+ * A relational expression between a relative property path like <code>@.price</code> and a literal. The property is
+ * read straight through the {@link JsonProvider} and compared to the literal, which is prepared once, instead of
+ * evaluating the path and creating a {@link ValueNode} for every item.
+ *
+ * Results are the same as those of the {@link Evaluator} for the operator. Values this comparison does not handle,
+ * like objects and arrays, are left to the evaluator.
+ */
+final class PropertyComparison {
+
+    private final String[] properties;
+    private final RelationalOperator operator;
+    private final boolean pathOnLeft;
+    private final ValueNode literal;
+    private final NumberNode number;
+    private final String string;
+
+    private PropertyComparison(String[] properties, RelationalOperator operator, boolean pathOnLeft, ValueNode literal) {
+        this.properties = properties;
+        this.operator = operator;
+        this.pathOnLeft = pathOnLeft;
+        this.literal = literal;
+
+        if (literal.isNumberNode()) {
+            this.number = literal.asNumberNode();
+            this.string = number.toString();
+        } else if (literal.isStringNode()) {
+            NumberNode parsed = literal.asNumberNode();
+            this.number = parsed == NumberNode.NAN ? null : parsed;
+            this.string = literal.asStringNode().getString();
+        } else {
+            this.number = null;
+            this.string = null;
+        }
+    }
+
+    /**
+     * @return a comparison for the given expression or null if the expression is not a comparison between a single
+     * property path and a literal
+     */
+    static PropertyComparison compile(ValueNode left, RelationalOperator operator, ValueNode right) {
+        switch (operator) {
+            case EQ:
+            case NE:
+            case TSEQ:
+            case TSNE:
+            case LT:
+            case LTE:
+            case GT:
+            case GTE:
+                break;
+            default:
+                return null;
+        }
+        boolean pathOnLeft = left.isPathNode();
+        ValueNode path = pathOnLeft ? left : right;
+        ValueNode literal = pathOnLeft ? right : left;
+        if (!path.isPathNode() || path.asPathNode().isExistsCheck() || !(path.asPathNode().getPath() instanceof CompiledPath)) {
+            return null;
+        }
+        if (!literal.isNumberNode() && !literal.isStringNode() && !literal.isBooleanNode() && !literal.isNullNode()) {
+            return null;
+        }
+        String[] properties = ((CompiledPath) path.asPathNode().getPath()).getPropertyChain();
+        if (properties == null) {
+            return null;
+        }
+        return new PropertyComparison(properties, operator, pathOnLeft, literal);
+    }
+
+    /**
+     * @return the result of the comparison or null if the property value has to be compared by the evaluator
+     */
+    Boolean apply(Predicate.PredicateContext ctx) {
+        Configuration configuration = ctx.configuration();
+        if (!configuration.getEvaluationListeners().isEmpty()) {
+            // listeners are notified of the property read by the path evaluation
+            return null;
+        }
+        Object value = read(ctx.item(), configuration);
+        if (value != JsonProvider.UNDEFINED && value != null && !(value instanceof Number)
+                && !(value instanceof String) && !(value instanceof Boolean)) {
+            return null;
+        }
+        switch (operator) {
+            case EQ:
+                return isEqual(value);
+            case NE:
+                return !isEqual(value);
+            case TSEQ:
+                return isSameType(value) && isEqual(value);
+            case TSNE:
+                return !(isSameType(value) && isEqual(value));
+            case LT:
+                return isComparable(value) && compare(value) < 0;
+            case LTE:
+                return isComparable(value) && compare(value) <= 0;
+            case GT:
+                return isComparable(value) && compare(value) > 0;
+            default:
+                return isComparable(value) && compare(value) >= 0;
+        }
+    }
+
+    private Object read(Object item, Configuration configuration) {
+        JsonProvider jsonProvider = configuration.jsonProvider();
+        Object value = item;
+        for (int i = 0; i < properties.length; i++) {
+            if (!jsonProvider.isMap(value)) {
+                value = JsonProvider.UNDEFINED;
+                break;
+            }
+            value = jsonProvider.getMapValue(value, properties[i]);
+            if (value == JsonProvider.UNDEFINED) {
+                if (i == properties.length - 1 && configuration.containsOption(Option.DEFAULT_PATH_LEAF_TO_NULL)) {
+                    value = null;
+                }
+                break;
+            }
+        }
+        if (value == JsonProvider.UNDEFINED) {
+            // a definite path without result evaluates to null when exceptions are suppressed
+            return configuration.containsOption(Option.SUPPRESS_EXCEPTIONS) ? null : JsonProvider.UNDEFINED;
+        }
+        return jsonProvider.unwrap(value);
+    }
+
+    private boolean isEqual(Object value) {
+        if (value instanceof Number) {
+            if (literal.isNumberNode()) {
+                return compareNumber((Number) value) == 0;
+            } else if (literal.isStringNode()) {
+                // the receiving node converts the other one, see NumberNode.equals and StringNode.equals
+                return pathOnLeft ? number != null && compareNumber((Number) value) == 0
+                                  : string.equals(ValueNode.createNumberNode((Number) value).toString());
+            }
+            return false;
+        } else if (value instanceof String) {
+            if (literal.isStringNode()) {
+                return string.equals(value);
+            } else if (literal.isNumberNode()) {
+                if (pathOnLeft) {
+                    return string.equals(value);
+                }
+                return number.equals(ValueNode.createStringNode((String) value, false));
+            }
+            return false;
+        } else if (value instanceof Boolean) {
+            return literal.isBooleanNode() && literal.asBooleanNode().getBoolean() == (Boolean) value;
+        } else if (value == null) {
+            return literal.isNullNode();
+        }
+        return false;
+    }
+
+    private boolean isSameType(Object value) {
+        if (value instanceof Number) {
+            return literal.isNumberNode();
+        } else if (value instanceof String) {
+            return literal.isStringNode();
+        } else if (value instanceof Boolean) {
+            return literal.isBooleanNode();
+        }
+        return value == null && literal.isNullNode();
+    }
+
+    private boolean isComparable(Object value) {
+        return (value instanceof Number && literal.isNumberNode()) || (value instanceof String && literal.isStringNode());
+    }
+
+    private int compare(Object value) {
+        int result = value instanceof Number ? compareNumber((Number) value) : ((String) value).compareTo(string);
+        return pathOnLeft ? result : -result;
+    }
+
+    private int compareNumber(Number value) {
+        return -number.compareTo(value);
+    }
+}
@@ -10,11 +10,16 @@ public class RelationalExpressionNode extends ExpressionNode {
     private final ValueNode left;
     private final RelationalOperator relationalOperator;
     private final ValueNode right;
+    private final Evaluator evaluator;
+    private final PropertyComparison propertyComparison;
+    private volatile BoundComparison boundComparison;
 
     public RelationalExpressionNode(ValueNode left, RelationalOperator relationalOperator, ValueNode right) {
         this.left = left;
         this.relationalOperator = relationalOperator;
         this.right = right;
+        this.evaluator = EvaluatorFactory.createEvaluator(relationalOperator);
+        this.propertyComparison = PropertyComparison.compile(left, relationalOperator, right);
 
         logger.trace("ExpressionNode {}", toString());
     }
@@ -33,16 +38,57 @@ public class RelationalExpressionNode extends ExpressionNode {
         ValueNode l = left;
         ValueNode r = right;
 
-        if(left.isPathNode()){
-            l = left.asPathNode().evaluate(ctx);
+        if(left.isParameterNode()){
+            l = left.asParameterNode().evaluate(ctx);
         }
-        if(right.isPathNode()){
-            r = right.asPathNode().evaluate(ctx);
+        if(right.isParameterNode()){
+            r = right.asParameterNode().evaluate(ctx);
+        }
+        PropertyComparison comparison = propertyComparison;
+        if(comparison == null && (l != left || r != right)){
+            comparison = boundComparison(l, r);
+        }
+        if(comparison != null){
+            Boolean result = comparison.apply(ctx);
+            if(result != null){
+                return result;
+            }
+        }
+
+        if(l.isPathNode()){
+            l = l.asPathNode().evaluate(ctx);
+        }
+        if(r.isPathNode()){
+            r = r.asPathNode().evaluate(ctx);
         }
-        Evaluator evaluator = EvaluatorFactory.createEvaluator(relationalOperator);
         if(evaluator != null){
             return evaluator.evaluate(l, r, ctx);
         }
         return false;
     }
-}
\ No newline at end of file
+
+    /**
+     * The values of the parameters are bound once per evaluation, so the comparison compiled for the last
+     * values is kept for the following items
+     */
+    private PropertyComparison boundComparison(ValueNode l, ValueNode r) {
+        BoundComparison bound = boundComparison;
+        if(bound == null || bound.left != l || bound.right != r){
+            bound = new BoundComparison(l, r, PropertyComparison.compile(l, relationalOperator, r));
+            boundComparison = bound;
+        }
+        return bound.comparison;
+    }
+
+    private static final class BoundComparison {
+        private final ValueNode left;
+        private final ValueNode right;
+        private final PropertyComparison comparison;
+
+        private BoundComparison(ValueNode left, ValueNode right, PropertyComparison comparison) {
+            this.left = left;
+            this.right = right;
+            this.comparison = comparison;
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package com.jayway.jsonpath.internal.filter;
 
-import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.Predicate;
 import com.jayway.jsonpath.internal.Path;
+import com.jayway.jsonpath.internal.PathMismatchException;
 import com.jayway.jsonpath.internal.path.PathCompiler;
 import net.minidev.json.parser.JSONParser;
 
@@ -21,7 +21,7 @@ public abstract class ValueNode {
     }
 
     public PatternNode asPatternNode() {
-        throw new InvalidPathException("Expected regexp node");
+        throw new PathMismatchException("Expected regexp node");
     }
 
     public boolean isPathNode() {
@@ -29,7 +29,15 @@ public abstract class ValueNode {
     }
 
     public PathNode asPathNode() {
-        throw new InvalidPathException("Expected path node");
+        throw new PathMismatchException("Expected path node");
+    }
+
+    public boolean isParameterNode() {
+        return false;
+    }
+
+    public ParameterNode asParameterNode() {
+        throw new PathMismatchException("Expected parameter node");
     }
 
     public boolean isNumberNode() {
@@ -37,7 +45,7 @@ public abstract class ValueNode {
     }
 
     public NumberNode asNumberNode() {
-        throw new InvalidPathException("Expected number node");
+        throw new PathMismatchException("Expected number node");
     }
 
     public boolean isStringNode() {
@@ -45,7 +53,7 @@ public abstract class ValueNode {
     }
 
     public StringNode asStringNode() {
-        throw new InvalidPathException("Expected string node");
+        throw new PathMismatchException("Expected string node");
     }
 
     public boolean isBooleanNode() {
@@ -53,7 +61,7 @@ public abstract class ValueNode {
     }
 
     public BooleanNode asBooleanNode() {
-        throw new InvalidPathException("Expected boolean node");
+        throw new PathMismatchException("Expected boolean node");
     }
 
     public boolean isJsonNode() {
@@ -61,7 +69,7 @@ public abstract class ValueNode {
     }
 
     public JsonNode asJsonNode() {
-        throw new InvalidPathException("Expected json node");
+        throw new PathMismatchException("Expected json node");
     }
 
     public boolean isPredicateNode() {
@@ -69,7 +77,7 @@ public abstract class ValueNode {
     }
 
     public PredicateNode asPredicateNode() {
-        throw new InvalidPathException("Expected predicate node");
+        throw new PathMismatchException("Expected predicate node");
     }
 
     public boolean isValueListNode() {
@@ -77,7 +85,7 @@ public abstract class ValueNode {
     }
 
     public ValueListNode asValueListNode() {
-        throw new InvalidPathException("Expected value list node");
+        throw new PathMismatchException("Expected value list node");
     }
 
     public boolean isNullNode() {
@@ -85,11 +93,11 @@ public abstract class ValueNode {
     }
 
     public NullNode asNullNode() {
-        throw new InvalidPathException("Expected null node");
+        throw new PathMismatchException("Expected null node");
     }
 
     public UndefinedNode asUndefinedNode() {
-        throw new InvalidPathException("Expected undefined node");
+        throw new PathMismatchException("Expected undefined node");
     }
 
     public boolean isUndefinedNode() {
@@ -101,7 +109,7 @@ public abstract class ValueNode {
     }
 
     public ClassNode asClassNode() {
-        throw new InvalidPathException("Expected class node");
+        throw new PathMismatchException("Expected class node");
     }
 
     //workaround for issue: https://github.com/json-path/JsonPath/issues/613
@@ -110,7 +118,7 @@ public abstract class ValueNode {
     }
 
     public OffsetDateTimeNode asOffsetDateTimeNode(){
-        throw new InvalidPathException("Expected offsetDateTime node");
+        throw new PathMismatchException("Expected offsetDateTime node");
     }
 
 
@@ -125,7 +133,7 @@ public abstract class ValueNode {
         char c0 = str.charAt(0);
         if(c0 == '@' || c0 == '$'){
             try {
-                PathCompiler.compile(str);
+                PathCompiler.compileSubPath(str);
                 return true;
             } catch(Exception e){
                 return false;
@@ -171,7 +179,7 @@ public abstract class ValueNode {
         else if(isJson(o)) return createJsonNode(o.toString());
         else if(o instanceof String) return createStringNode(o.toString(), true);
         else if(o instanceof Character) return createStringNode(o.toString(), false);
-        else if(o instanceof Number) return createNumberNode(o.toString());
+        else if(o instanceof Number) return createNumberNode((Number) o);
         else if(o instanceof Boolean) return createBooleanNode(o.toString());
         else if(o instanceof Pattern) return createPatternNode((Pattern)o);
         else if (o instanceof OffsetDateTime) return createOffsetDateTimeNode(o.toString());  //workaround for issue: https://github.com/json-path/JsonPath/issues/613
@@ -191,6 +199,15 @@ public abstract class ValueNode {
         return new NumberNode(charSequence);
     }
 
+    public static NumberNode createNumberNode(Number number){
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            return new NumberNode(number.longValue());
+        } else if (number instanceof Double && !((Double) number).isNaN() && !((Double) number).isInfinite()) {
+            return new NumberNode(number.doubleValue());
+        }
+        return new NumberNode(number.toString());
+    }
+
     public static BooleanNode createBooleanNode(CharSequence charSequence){
         return Boolean.parseBoolean(charSequence.toString()) ? TRUE : FALSE;
     }
@@ -233,6 +250,10 @@ public abstract class ValueNode {
         return new PathNode(path);
     }
 
+    public static ParameterNode createParameterNode(String name) {
+        return new ParameterNode(name);
+    }
+
 
 }
 
@@ -5,9 +5,7 @@ import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.regex.Pattern;
 
-import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPathException;
-import com.jayway.jsonpath.Option;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.Predicate;
 import com.jayway.jsonpath.internal.Path;
@@ -105,6 +103,10 @@ public interface ValueNodes {
         private final Object json;
         private final boolean parsed;
 
+        // a json literal is parsed, and converted to a list, once and reused by every evaluation
+        private volatile Object parsedJson;
+        private volatile ValueListNode valueListNode;
+
         JsonNode(CharSequence charSequence) {
             json = charSequence.toString();
             parsed = false;
@@ -136,17 +138,32 @@ public interface ValueNodes {
         public ValueNode asValueListNode(Predicate.PredicateContext ctx){
             if(!isArray(ctx)){
                 return UNDEFINED;
-            } else {
+            } else if(parsed){
                 return new ValueListNode(Collections.unmodifiableList((List) parse(ctx)));
+            } else {
+                ValueListNode list = valueListNode;
+                if(list == null){
+                    list = new ValueListNode(Collections.unmodifiableList((List) parse(ctx)));
+                    valueListNode = list;
+                }
+                return list;
             }
         }
 
         public Object parse(Predicate.PredicateContext ctx){
-            try {
-              return parsed ? json : new JSONParser(JSONParser.MODE_PERMISSIVE).parse(json.toString());
-            } catch (ParseException e) {
-              throw new IllegalArgumentException(e);
+            if(parsed){
+                return json;
             }
+            Object result = parsedJson;
+            if(result == null){
+                try {
+                    result = new JSONParser(JSONParser.MODE_PERMISSIVE).parse(json.toString());
+                } catch (ParseException e) {
+                    throw new IllegalArgumentException(e);
+                }
+                parsedJson = result;
+            }
+            return result;
         }
 
         public boolean isParsed() {
@@ -278,22 +295,134 @@ public interface ValueNodes {
 
         public static NumberNode NAN = new NumberNode((BigDecimal)null);
 
-        private final BigDecimal number;
+        // integers beyond this magnitude can not be represented exactly as a double
+        private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+        // integers below this magnitude are hashed as Long, the others as BigDecimal
+        private static final long MAX_LONG_KEY = 1000000000000000000L;
+
+        private BigDecimal number;
+        private final boolean exactLong;
+        private final boolean exactDouble;
+        private final long longValue;
+        private final double doubleValue;
 
         NumberNode(BigDecimal number) {
             this.number = number;
+            long l = 0;
+            boolean isLong = false;
+            double d = 0;
+            boolean isDouble = false;
+            if (number != null) {
+                try {
+                    l = number.longValueExact();
+                    isLong = true;
+                } catch (ArithmeticException e) {
+                    // fractional or out of long range
+                }
+                d = number.doubleValue();
+                isDouble = !Double.isInfinite(d) && new BigDecimal(Double.toString(d)).compareTo(number) == 0;
+            }
+            this.exactLong = isLong;
+            this.longValue = l;
+            this.exactDouble = isDouble;
+            this.doubleValue = d;
         }
+
         NumberNode(CharSequence num) {
-            number = new BigDecimal(num.toString());
+            this(new BigDecimal(num.toString()));
+        }
+
+        NumberNode(long number) {
+            this.exactLong = true;
+            this.longValue = number;
+            this.exactDouble = -MAX_EXACT_DOUBLE <= number && number <= MAX_EXACT_DOUBLE;
+            this.doubleValue = number;
+        }
+
+        NumberNode(double number) {
+            this.exactLong = false;
+            this.longValue = 0;
+            this.exactDouble = true;
+            this.doubleValue = number;
         }
 
         @Override
         public StringNode asStringNode() {
-            return new StringNode(number.toString(), false);
+            return new StringNode(getNumber().toString(), false);
         }
 
+        /**
+         * @return the number as BigDecimal, which is only created on demand for numbers read from a document
+         */
         public BigDecimal getNumber() {
-            return number;
+            BigDecimal n = number;
+            if (n == null && (exactLong || exactDouble)) {
+                n = exactLong ? BigDecimal.valueOf(longValue) : new BigDecimal(Double.toString(doubleValue));
+                number = n;
+            }
+            return n;
+        }
+
+        /**
+         * Compares the numeric values of this and the given node. Numbers that are exactly represented as long or
+         * double are compared as such, others as BigDecimal.
+         */
+        public int compareTo(NumberNode that) {
+            if (exactLong && that.exactLong) {
+                return compare(longValue, that.longValue);
+            } else if (exactDouble && that.exactDouble) {
+                return compare(doubleValue, that.doubleValue);
+            }
+            return getNumber().compareTo(that.getNumber());
+        }
+
+        /**
+         * Compares the numeric value of this node to a number read from a document, without creating a node for
+         * integers and doubles.
+         */
+        public int compareTo(Number value) {
+            if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+                long l = value.longValue();
+                if (exactLong) {
+                    return compare(longValue, l);
+                } else if (exactDouble && -MAX_EXACT_DOUBLE <= l && l <= MAX_EXACT_DOUBLE) {
+                    return compare(doubleValue, (double) l);
+                }
+            } else if (value instanceof Double && exactDouble) {
+                double d = value.doubleValue();
+                if (!Double.isNaN(d) && !Double.isInfinite(d)) {
+                    return compare(doubleValue, d);
+                }
+            }
+            return compareTo(ValueNode.createNumberNode(value));
+        }
+
+        /**
+         * @return a key that is equal for numbers with the same decimal value, integers are keyed as Long
+         */
+        Object hashKey() {
+            if (exactLong && -MAX_LONG_KEY < longValue && longValue < MAX_LONG_KEY) {
+                return longValue;
+            } else if (!exactLong && exactDouble && doubleValue == Math.rint(doubleValue)
+                    && -MAX_EXACT_DOUBLE <= doubleValue && doubleValue <= MAX_EXACT_DOUBLE) {
+                return (long) doubleValue;
+            }
+            BigDecimal n = getNumber().stripTrailingZeros();
+            if (n.scale() <= 0 && n.precision() - n.scale() < 19) {
+                // an integer below MAX_LONG_KEY that was not read as one
+                return n.longValue();
+            }
+            return n;
+        }
+
+        private static int compare(long x, long y) {
+            return (x < y) ? -1 : ((x == y) ? 0 : 1);
+        }
+
+        private static int compare(double x, double y) {
+            // -0.0 and 0.0 are equal, as they are for BigDecimal
+            return (x < y) ? -1 : ((x == y) ? 0 : 1);
         }
 
         @Override
@@ -311,7 +440,7 @@ public interface ValueNodes {
 
         @Override
         public String toString() {
-            return number.toString();
+            return getNumber().toString();
         }
 
         @Override
@@ -324,7 +453,7 @@ public interface ValueNodes {
             if(that == NumberNode.NAN){
                 return false;
             } else {
-                return number.compareTo(that.number) == 0;
+                return compareTo(that) == 0;
             }
         }
     }
@@ -557,7 +686,9 @@ public interface ValueNodes {
 
     class ValueListNode extends ValueNode implements Iterable<ValueNode> {
 
-        private List<ValueNode> nodes = new ArrayList<ValueNode>();
+        private final List<ValueNode> nodes = new ArrayList<ValueNode>();
+        private volatile Index index;
+        private int lookups;
 
         public ValueListNode(Collection<?> values) {
             for (Object value : values) {
@@ -566,12 +697,21 @@ public interface ValueNodes {
         }
 
         public boolean contains(ValueNode node){
-            return nodes.contains(node);
+            Index idx = index;
+            if (idx == null) {
+                if (lookups++ == 0) {
+                    // a list that is only looked up once, like an array of the current item, is not worth hashing
+                    return nodes.contains(node);
+                }
+                idx = new Index(nodes);
+                index = idx;
+            }
+            return idx.contains(node, nodes);
         }
 
         public boolean subsetof(ValueListNode right) {
             for (ValueNode leftNode : nodes) {
-                if (!right.nodes.contains(leftNode)) {
+                if (!right.contains(leftNode)) {
                     return false;
                 }
             }
@@ -614,6 +754,57 @@ public interface ValueNodes {
         public Iterator<ValueNode> iterator() {
             return nodes.iterator();
         }
+
+        /**
+         * Hashes the values of a list by the way they are compared by {@link ValueNode#equals(Object)}, so that
+         * membership is found without comparing a node to every value.
+         */
+        private static final class Index {
+
+            private final Set<Object> numbers = new HashSet<Object>();
+            private final Set<String> strings = new HashSet<String>();
+            private boolean containsTrue;
+            private boolean containsFalse;
+            private boolean containsNull;
+
+            private Index(List<ValueNode> nodes) {
+                for (ValueNode node : nodes) {
+                    if (node.isNumberNode()) {
+                        // a string equals a number with the same string form
+                        numbers.add(node.asNumberNode().hashKey());
+                        strings.add(node.asNumberNode().toString());
+                    } else if (node.isStringNode()) {
+                        // a number equals a string that parses to the same number
+                        strings.add(node.asStringNode().getString());
+                        NumberNode number = node.asNumberNode();
+                        if (number != NumberNode.NAN) {
+                            numbers.add(number.hashKey());
+                        }
+                    } else if (node.isBooleanNode()) {
+                        if (node.asBooleanNode().getBoolean()) {
+                            containsTrue = true;
+                        } else {
+                            containsFalse = true;
+                        }
+                    } else if (node.isNullNode()) {
+                        containsNull = true;
+                    }
+                }
+            }
+
+            private boolean contains(ValueNode node, List<ValueNode> nodes) {
+                if (node.isNumberNode()) {
+                    return numbers.contains(node.asNumberNode().hashKey());
+                } else if (node.isStringNode()) {
+                    return strings.contains(node.asStringNode().getString());
+                } else if (node.isBooleanNode()) {
+                    return node.asBooleanNode().getBoolean() ? containsTrue : containsFalse;
+                } else if (node.isNullNode()) {
+                    return containsNull;
+                }
+                return nodes.contains(node);
+            }
+        }
     }
 
     class PathNode extends ValueNode {
@@ -629,7 +820,7 @@ public interface ValueNodes {
         }
 
         PathNode(CharSequence charSequence, boolean existsCheck, boolean shouldExist) {
-            this(PathCompiler.compile(charSequence.toString()), existsCheck, shouldExist);
+            this(PathCompiler.compileSubPath(charSequence.toString()), existsCheck, shouldExist);
         }
 
         PathNode(Path path, boolean existsCheck, boolean shouldExist) {
@@ -675,13 +866,10 @@ public interface ValueNodes {
 
         public ValueNode evaluate(Predicate.PredicateContext ctx) {
             if (isExistsCheck()) {
-                try {
-                    Configuration c = Configuration.builder().jsonProvider(ctx.configuration().jsonProvider()).options(Option.REQUIRE_PROPERTIES).build();
-                    Object result = path.evaluate(ctx.item(), ctx.root(), c).getValue(false);
-                    return result == JsonProvider.UNDEFINED ? FALSE : TRUE;
-                } catch (PathNotFoundException e) {
-                    return FALSE;
+                if (ctx instanceof PredicateContextImpl) {
+                    return path.exists(ctx.item(), ctx.root(), ctx.configuration(), ((PredicateContextImpl) ctx).parameters()) ? TRUE : FALSE;
                 }
+                return path.exists(ctx.item(), ctx.root(), ctx.configuration()) ? TRUE : FALSE;
             } else {
                 try {
                     Object res;
@@ -689,13 +877,16 @@ public interface ValueNodes {
                         //This will use cache for document ($) queries
                         PredicateContextImpl ctxi = (PredicateContextImpl) ctx;
                         res = ctxi.evaluate(path);
+                        if (res == JsonProvider.UNDEFINED) {
+                            return UNDEFINED;
+                        }
                     } else {
                         Object doc = path.isRootPath() ? ctx.root() : ctx.item();
                         res = path.evaluate(doc, ctx.root(), ctx.configuration()).getValue();
                     }
                     res = ctx.configuration().jsonProvider().unwrap(res);
 
-                    if (res instanceof Number) return ValueNode.createNumberNode(res.toString());
+                    if (res instanceof Number) return ValueNode.createNumberNode((Number) res);
                     else if (res instanceof String) return ValueNode.createStringNode(res.toString(), false);
                     else if (res instanceof Boolean) return ValueNode.createBooleanNode(res.toString());
                     else if (res instanceof OffsetDateTime) return ValueNode.createOffsetDateTimeNode(res.toString()); //workaround for issue: https://github.com/json-path/JsonPath/issues/613
@@ -709,4 +900,96 @@ public interface ValueNodes {
             }
         }
     }
+
+    class ParameterNode extends ValueNode {
+
+        private final String name;
+
+        ParameterNode(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Converts the values given for the parameters of an evaluation. Strings are always string values, they are
+         * not read as paths or json like the values of {@link ValueNode#toValueNode(Object)}.
+         * @param values the values by parameter name
+         * @return the value nodes by parameter name
+         */
+        public static Map<String, ValueNode> bind(Map<String, ?> values) {
+            if (values == null || values.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            Map<String, ValueNode> nodes = new HashMap<String, ValueNode>();
+            for (Map.Entry<String, ?> value : values.entrySet()) {
+                nodes.put(value.getKey(), toParameterValue(value.getValue()));
+            }
+            return nodes;
+        }
+
+        private static ValueNode toParameterValue(Object value) {
+            if (value == null) return NULL_NODE;
+            else if (value instanceof CharSequence || value instanceof Character) return ValueNode.createStringNode(value.toString(), false);
+            else if (value instanceof Number) return ValueNode.createNumberNode((Number) value);
+            else if (value instanceof Boolean) return (Boolean) value ? TRUE : FALSE;
+            else if (value instanceof Pattern) return ValueNode.createPatternNode((Pattern) value);
+            else if (value instanceof OffsetDateTime) return ValueNode.createOffsetDateTimeNode(value.toString());
+            else if (value instanceof Collection) {
+                List<ValueNode> nodes = new ArrayList<ValueNode>();
+                for (Object item : (Collection<?>) value) {
+                    nodes.add(toParameterValue(item));
+                }
+                return new ValueListNode(nodes);
+            }
+            else if (value instanceof Map) return ValueNode.createJsonNode(value);
+            else throw new JsonPathException("Could not convert " + value.getClass().toString() + " to a parameter value");
+        }
+
+        @Override
+        public Class<?> type(Predicate.PredicateContext ctx) {
+            return Void.class;
+        }
+
+        public boolean isParameterNode() {
+            return true;
+        }
+
+        public ParameterNode asParameterNode() {
+            return this;
+        }
+
+        /**
+         * @return the value given for this parameter in the evaluation of the context
+         */
+        public ValueNode evaluate(Predicate.PredicateContext ctx) {
+            ValueNode value = null;
+            if (ctx instanceof PredicateContextImpl) {
+                value = ((PredicateContextImpl) ctx).parameters().get(name);
+            }
+            if (value == null) {
+                throw new JsonPathException("No value given for parameter " + this);
+            }
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return ":" + name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ParameterNode)) return false;
+            return name.equals(((ParameterNode) o).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+    }
 }
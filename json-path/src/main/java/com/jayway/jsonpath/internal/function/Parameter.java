@@ -3,10 +3,13 @@ package com.jayway.jsonpath.internal.function;
 import com.jayway.jsonpath.internal.EvaluationContext;
 import com.jayway.jsonpath.internal.Path;
 import com.jayway.jsonpath.internal.function.latebinding.ILateBindingValue;
+import com.jayway.jsonpath.internal.function.latebinding.JsonLateBindingValue;
+import com.jayway.jsonpath.spi.json.JsonProvider;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Defines a parameter as passed to a function with late binding support for lazy evaluation.
@@ -17,6 +20,7 @@ public class Parameter {
     private ILateBindingValue lateBinding;
     private Boolean evaluated = false;
     private String json;
+    private final AtomicReference<ILateBindingValue> jsonLateBinding = new AtomicReference<ILateBindingValue>();
 
     public Parameter() {}
 
@@ -74,6 +78,46 @@ public class Parameter {
         return lateBinding;
     }
 
+    /**
+     * Returns the late binding value of a JSON parameter. JSON parameters do not depend on the document being evaluated,
+     * the binding is created once, with the json provider of the first evaluation, and shared by all evaluations.
+     *
+     * @param jsonProvider
+     *      The json provider of the current evaluation.
+     *
+     * @return
+     *      The late binding value of this JSON parameter.
+     */
+    public ILateBindingValue jsonLateBinding(JsonProvider jsonProvider) {
+        ILateBindingValue binding = jsonLateBinding.get();
+        if (null == binding) {
+            jsonLateBinding.compareAndSet(null, new JsonLateBindingValue(jsonProvider, this));
+            binding = jsonLateBinding.get();
+        }
+        return binding;
+    }
+
+    /**
+     * Creates a copy of this parameter bound to the given value. Parameters are part of a compiled path, which may be
+     * evaluated by many threads at once, so the value of a parameter is bound to a copy that lives only as long as
+     * the evaluation.
+     *
+     * @param lateBinding
+     *      The value of the parameter for the current evaluation.
+     *
+     * @return
+     *      A new evaluated parameter.
+     */
+    public Parameter bind(ILateBindingValue lateBinding) {
+        Parameter bound = new Parameter();
+        bound.type = type;
+        bound.path = path;
+        bound.json = json;
+        bound.lateBinding = lateBinding;
+        bound.evaluated = true;
+        return bound;
+    }
+
     /**
      * Translate the collection of parameters into a collection of values of type T.
      *
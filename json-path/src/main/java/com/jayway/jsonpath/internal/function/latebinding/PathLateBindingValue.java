@@ -16,7 +16,10 @@ package com.jayway.jsonpath.internal.function.latebinding;
 
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.internal.Path;
+import com.jayway.jsonpath.internal.filter.ValueNode;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -28,14 +31,23 @@ import java.util.Objects;
  */
 public class PathLateBindingValue implements ILateBindingValue {
     private final Path path;
-    private final String rootDocument;
+    private final Object rootDocument;
     private final Configuration configuration;
+    private final Map<String, ValueNode> parameters;
     private final Object result;
     public PathLateBindingValue(final Path path, final Object rootDocument, final Configuration configuration) {
+        this(path, rootDocument, configuration, Collections.<String, ValueNode>emptyMap());
+    }
+
+    /**
+     * @param parameters values of the filter parameters of the evaluation the path is an argument of
+     */
+    public PathLateBindingValue(final Path path, final Object rootDocument, final Configuration configuration, final Map<String, ValueNode> parameters) {
         this.path = path;
-        this.rootDocument = rootDocument.toString();
+        this.rootDocument = rootDocument;
         this.configuration = configuration;
-        this.result = path.evaluate(rootDocument, rootDocument, configuration).getValue();
+        this.parameters = parameters;
+        this.result = path.evaluate(rootDocument, rootDocument, configuration, false, parameters).getValue();
     }
 
     /**
@@ -52,7 +64,8 @@ public class PathLateBindingValue implements ILateBindingValue {
         if (o == null || getClass() != o.getClass()) return false;
         PathLateBindingValue that = (PathLateBindingValue) o;
         return Objects.equals(path, that.path) &&
-                rootDocument.equals(that.rootDocument) &&
-                Objects.equals(configuration, that.configuration);
+                Objects.equals(rootDocument, that.rootDocument) &&
+                Objects.equals(configuration, that.configuration) &&
+                Objects.equals(parameters, that.parameters);
     }
 }
@@ -3,14 +3,15 @@ package com.jayway.jsonpath.internal.function.text;
 import com.jayway.jsonpath.internal.EvaluationContext;
 import com.jayway.jsonpath.internal.Path;
 import com.jayway.jsonpath.internal.PathRef;
+import com.jayway.jsonpath.internal.filter.ValueNode;
 import com.jayway.jsonpath.internal.function.Parameter;
 import com.jayway.jsonpath.internal.function.PathFunction;
 import com.jayway.jsonpath.internal.path.CompiledPath;
-import com.jayway.jsonpath.internal.path.PathToken;
-import com.jayway.jsonpath.internal.path.RootPathToken;
-import com.jayway.jsonpath.internal.path.WildcardPathToken;
+import com.jayway.jsonpath.internal.path.EvaluationContextImpl;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Provides the length of a JSONArray Object
@@ -43,24 +44,26 @@ public class Length implements PathFunction {
     public Object invoke(String currentPath, PathRef parent, Object model, EvaluationContext ctx, List<Parameter> parameters) {
         if (null != parameters && parameters.size() > 0) {
 
-            // Set the tail of the first parameter, when its not a function path parameter (which wouldn't make sense
-            // for length - to the wildcard such that we request all of its children so we can get back an array and
-            // take its length.
-            Parameter lengthOfParameter = parameters.get(0);
-            if (!lengthOfParameter.getPath().isFunctionPath()) {
-                Path path = lengthOfParameter.getPath();
-                if (path instanceof CompiledPath) {
-                    RootPathToken root = ((CompiledPath) path).getRoot();
-                    PathToken tail = root.getNext();
-                    while (null != tail && null != tail.getNext()) {
-                        tail = tail.getNext();
-                    }
-                    if (null != tail) {
-                        tail.setNext(new WildcardPathToken());
+            // When the first parameter is not a function path parameter (which wouldn't make sense for length) we want
+            // the number of children of the nodes it lands on, the same as evaluating the parameter path with a trailing
+            // wildcard. The children are counted here instead of appending a wildcard token to the parameter path, the
+            // compiled path is shared and must not be modified during evaluation.
+            Path path = parameters.get(0).getPath();
+            if (!path.isFunctionPath() && path instanceof CompiledPath && null != ((CompiledPath) path).getRoot().getNext()) {
+                Object innerModel = path.evaluate(model, model, ctx.configuration(), false, parameters(ctx)).getValue(false);
+                if (path.isDefinite()) {
+                    return childCount(innerModel, ctx);
+                }
+                int length = 0;
+                for (Object node : ctx.configuration().jsonProvider().toIterable(innerModel)) {
+                    Integer count = childCount(node, ctx);
+                    if (null != count) {
+                        length += count;
                     }
                 }
+                return length;
             }
-            Object innerModel = parameters.get(0).getPath().evaluate(model, model, ctx.configuration()).getValue();
+            Object innerModel = path.evaluate(model, model, ctx.configuration(), false, parameters(ctx)).getValue();
             if (ctx.configuration().jsonProvider().isArray(innerModel)) {
                 return ctx.configuration().jsonProvider().length(innerModel);
             }
@@ -72,4 +75,19 @@ public class Length implements PathFunction {
         }
         return null;
     }
+
+    // the parameter path is evaluated on its own, it takes the filter parameters of the evaluation it is part of
+    private static Map<String, ValueNode> parameters(EvaluationContext ctx) {
+        if (ctx instanceof EvaluationContextImpl) {
+            return ((EvaluationContextImpl) ctx).parameters();
+        }
+        return Collections.emptyMap();
+    }
+
+    private Integer childCount(Object node, EvaluationContext ctx) {
+        if (ctx.configuration().jsonProvider().isArray(node) || ctx.configuration().jsonProvider().isMap(node)) {
+            return ctx.configuration().jsonProvider().length(node);
+        }
+        return null;
+    }
 }
\ No newline at end of file
@@ -27,7 +27,7 @@ public class ArrayIndexToken extends ArrayPathToken {
     }
 
     @Override
-    public void evaluate(String currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
+    public void evaluate(PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
         if (!checkArrayModel(currentPath, model, ctx))
             return;
         if (arrayIndexOperation.isSingleIndexOperation()) {
@@ -39,6 +39,10 @@ public class ArrayIndexToken extends ArrayPathToken {
         }
     }
 
+    ArrayIndexOperation operation() {
+        return arrayIndexOperation;
+    }
+
     @Override
     public String getPathFragment() {
         return arrayIndexOperation.toString();
@@ -17,8 +17,7 @@ package com.jayway.jsonpath.internal.path;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.Option;
 import com.jayway.jsonpath.PathNotFoundException;
-
-import static java.lang.String.format;
+import com.jayway.jsonpath.internal.MissingPathException;
 
 public abstract class ArrayPathToken extends PathToken {
 
@@ -31,21 +30,21 @@ public abstract class ArrayPathToken extends PathToken {
      * @throws PathNotFoundException if model is null and evaluation must be interrupted
      * @throws InvalidPathException if model is not an array and evaluation must be interrupted
      */
-    protected boolean checkArrayModel(String currentPath, Object model, EvaluationContextImpl ctx) {
+    protected boolean checkArrayModel(PathSegment currentPath, Object model, EvaluationContextImpl ctx) {
         if (model == null){
             if (!isUpstreamDefinite()
-                    || ctx.options().contains(Option.SUPPRESS_EXCEPTIONS)) {
+                    || ctx.containsOption(Option.SUPPRESS_EXCEPTIONS)) {
                 return false;
             } else {
-                throw new PathNotFoundException("The path " + currentPath + " is null");
+                throw new MissingPathException("The path %s is null", currentPath);
             }
         }
         if (!ctx.jsonProvider().isArray(model)) {
             if (!isUpstreamDefinite()
-                    || ctx.options().contains(Option.SUPPRESS_EXCEPTIONS)) {
+                    || ctx.containsOption(Option.SUPPRESS_EXCEPTIONS)) {
                 return false;
             } else {
-                throw new PathNotFoundException(format("Filter: %s can only be applied to arrays. Current context is: %s", toString(), model));
+                throw new MissingPathException("Filter: %s can only be applied to arrays. Current context is: %s", this, model);
             }
         }
         return true;
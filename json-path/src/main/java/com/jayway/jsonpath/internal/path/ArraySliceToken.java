@@ -29,7 +29,7 @@ public class ArraySliceToken extends ArrayPathToken {
     }
 
     @Override
-    public void evaluate(String currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
+    public void evaluate(PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
         if (!checkArrayModel(currentPath, model, ctx))
             return;
         switch (operation.operation()) {
@@ -45,7 +45,7 @@ public class ArraySliceToken extends ArrayPathToken {
         }
     }
 
-    private void sliceFrom(String currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
+    private void sliceFrom(PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
         int length = ctx.jsonProvider().length(model);
         int from = operation.from();
         if (from < 0) {
@@ -64,7 +64,7 @@ public class ArraySliceToken extends ArrayPathToken {
         }
     }
 
-    private void sliceBetween(String currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
+    private void sliceBetween(PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
         int length = ctx.jsonProvider().length(model);
         int from = operation.from();
         int to = operation.to();
@@ -82,7 +82,7 @@ public class ArraySliceToken extends ArrayPathToken {
         }
     }
 
-    private void sliceTo(String currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
+    private void sliceTo(PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
         int length = ctx.jsonProvider().length(model);
         if (length == 0) {
             return;
@@ -101,6 +101,10 @@ public class ArraySliceToken extends ArrayPathToken {
         }
     }
 
+    ArraySliceOperation operation() {
+        return operation;
+    }
+
     @Override
     public String getPathFragment() {
         return operation.toString();
@@ -15,29 +15,49 @@
 package com.jayway.jsonpath.internal.path;
 
 import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPathException;
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.internal.EvaluationAbortException;
 import com.jayway.jsonpath.internal.EvaluationContext;
 import com.jayway.jsonpath.internal.Path;
 import com.jayway.jsonpath.internal.PathRef;
 import com.jayway.jsonpath.internal.function.ParamType;
+import com.jayway.jsonpath.internal.filter.ValueNode;
 import com.jayway.jsonpath.internal.function.Parameter;
+import com.jayway.jsonpath.spi.json.JsonProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 public class CompiledPath implements Path {
 
     private static final Logger logger = LoggerFactory.getLogger(CompiledPath.class);
 
+    private static final boolean JACKSON_AVAILABLE = isJacksonAvailable();
+
     private final RootPathToken root;
 
     private final boolean isRootPath;
 
+    private volatile RootPathToken lazyRoot;
+
+    private final String[] properties;
+
+    private volatile Configuration existsConfiguration;
 
     public CompiledPath(RootPathToken root, boolean isRootPath) {
         this.root = invertScannerFunctionRelationship(root);
         this.isRootPath = isRootPath;
+        this.properties = properties(this.root);
     }
 
     @Override
@@ -89,14 +109,19 @@ public class CompiledPath implements Path {
 
     @Override
     public EvaluationContext evaluate(Object document, Object rootDocument, Configuration configuration, boolean forUpdate) {
+        return evaluate(document, rootDocument, configuration, forUpdate, Collections.<String, ValueNode>emptyMap());
+    }
+
+    @Override
+    public EvaluationContext evaluate(Object document, Object rootDocument, Configuration configuration, boolean forUpdate, Map<String, ValueNode> parameters) {
         if (logger.isDebugEnabled()) {
             logger.debug("Evaluating path: {}", toString());
         }
 
-        EvaluationContextImpl ctx = new EvaluationContextImpl(this, rootDocument, configuration, forUpdate);
+        EvaluationContextImpl ctx = new EvaluationContextImpl(this, rootDocument, configuration, forUpdate, parameters);
         try {
             PathRef op = ctx.forUpdate() ?  PathRef.createRoot(rootDocument) : PathRef.NO_OP;
-            root.evaluate("", op, document, ctx);
+            root.evaluate(null, op, document, ctx);
         } catch (EvaluationAbortException abort) {}
 
         return ctx;
@@ -107,6 +132,122 @@ public class CompiledPath implements Path {
         return evaluate(document, rootDocument, configuration, false);
     }
 
+    @Override
+    public boolean exists(Object document, Object rootDocument, Configuration configuration) {
+        return exists(document, rootDocument, configuration, Collections.<String, ValueNode>emptyMap());
+    }
+
+    @Override
+    public boolean exists(Object document, Object rootDocument, Configuration configuration, Map<String, ValueNode> parameters) {
+        JsonProvider jsonProvider = configuration.jsonProvider();
+        if (properties != null) {
+            // every property is required, so the path exists if each of them is found
+            Object model = document;
+            for (String property : properties) {
+                if (!jsonProvider.isMap(model)) {
+                    return false;
+                }
+                model = jsonProvider.getMapValue(model, property);
+                if (model == JsonProvider.UNDEFINED) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        Configuration c = existsConfiguration;
+        if (c == null || c.jsonProvider() != jsonProvider) {
+            c = Configuration.builder().jsonProvider(jsonProvider).options(Option.REQUIRE_PROPERTIES).build();
+            existsConfiguration = c;
+        }
+        try {
+            Object result = evaluate(document, rootDocument, c, false, parameters).getValue(false);
+            return result != JsonProvider.UNDEFINED;
+        } catch (PathNotFoundException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Iterator<Object> iterate(Object document, Object rootDocument, Configuration configuration) {
+        if (isFunctionPath()) {
+            throw new JsonPathException("Function path " + toString() + " can not be iterated");
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Iterating path: {}", toString());
+        }
+        RootPathToken lazy = lazyRoot;
+        if (lazy == null) {
+            lazy = LazyPathEvaluator.compile(root);
+            lazyRoot = lazy;
+        }
+        return LazyPathEvaluator.iterator(this, lazy, document, rootDocument, configuration);
+    }
+
+    @Override
+    public EvaluationContext evaluate(InputStream jsonInputStream, Configuration configuration) throws IOException {
+        if (!isStreamable()) {
+            throw new JsonPathException("Path " + toString() + " can not be evaluated on a stream");
+        }
+        if (!JACKSON_AVAILABLE) {
+            throw new JsonPathException("Jackson core not found on class path, it is required to evaluate a path on a stream");
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Evaluating path on stream: {}", toString());
+        }
+        return StreamingPathEvaluator.evaluate(this, jsonInputStream, configuration);
+    }
+
+    @Override
+    public boolean isStreamable() {
+        if (isFunctionPath() || !isRootPath) {
+            return false;
+        }
+        PathToken token = root;
+        while (!token.isLeaf()) {
+            token = token.next();
+            if (!isStreamable(token)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isStreamable(PathToken token) {
+        if (token instanceof PropertyPathToken) {
+            return ((PropertyPathToken) token).singlePropertyCase();
+        } else if (token instanceof WildcardPathToken) {
+            return true;
+        } else if (token instanceof ArrayIndexToken) {
+            int previous = -1;
+            for (Integer index : ((ArrayIndexToken) token).operation().indexes()) {
+                if (index <= previous) {
+                    return false;
+                }
+                previous = index;
+            }
+            return true;
+        } else if (token instanceof ArraySliceToken) {
+            ArraySliceOperation operation = ((ArraySliceToken) token).operation();
+            switch (operation.operation()) {
+                case SLICE_FROM:
+                case SLICE_BETWEEN:
+                    return operation.from() >= 0;
+                case SLICE_TO:
+                    return operation.to() >= 0;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isJacksonAvailable() {
+        try {
+            Class.forName("com.fasterxml.jackson.core.JsonFactory", false, CompiledPath.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
     @Override
     public boolean isDefinite() {
         return root.isPathDefinite();
@@ -125,4 +266,28 @@ public class CompiledPath implements Path {
     public RootPathToken getRoot() {
         return root;
     }
+
+    /**
+     * @return the property names of a relative path that only selects single properties, like <code>@.a.b</code>,
+     * or null if this is any other path
+     */
+    public String[] getPropertyChain() {
+        if (isRootPath || properties == null || properties.length == 0) {
+            return null;
+        }
+        return properties.clone();
+    }
+
+    private static String[] properties(RootPathToken root) {
+        List<String> properties = new ArrayList<String>();
+        PathToken token = root;
+        while (!token.isLeaf()) {
+            token = token.next();
+            if (!(token instanceof PropertyPathToken) || !((PropertyPathToken) token).singlePropertyCase()) {
+                return null;
+            }
+            properties.add(((PropertyPathToken) token).getProperties().get(0));
+        }
+        return properties.toArray(new String[0]);
+    }
 }
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2011 the original author or authors.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jayway.jsonpath.internal.path;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.internal.EvaluationAbortException;
+import com.jayway.jsonpath.internal.EvaluationContext;
+import com.jayway.jsonpath.internal.Path;
+import com.jayway.jsonpath.internal.PathRef;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.jayway.jsonpath.internal.Utils.isTrue;
+import static com.jayway.jsonpath.internal.Utils.notNull;
+
+/**
+ * A set of paths that are evaluated together in a single traversal of a document.
+ *
+ * The token chains of the paths are merged into a prefix tree. Tokens several paths start with, like the
+ * <code>$.order.lines[*]</code> in <code>$.order.lines[*].id</code> and <code>$.order.lines[*].price</code>, are
+ * evaluated once for all of them. Where the paths part, a fork hands the current node to the remaining tokens of
+ * each path, which add their results to an evaluation context of their own.
+ *
+ * Only properties, array indexes, slices and wildcards are shared. Their evaluation does not depend on the rest of
+ * the path, as long as they are not the leaf, so a shared token behaves exactly as it does in each of the paths.
+ * Scans, filters and functions, and everything after them, are evaluated per path.
+ */
+public class CompiledPathSet {
+
+    private final List<CompiledPath> paths;
+    private final Fork fork;
+
+    /**
+     * @param paths the compiled paths of the set, function paths are not supported
+     */
+    public CompiledPathSet(List<? extends Path> paths) {
+        notNull(paths, "paths can not be null");
+        this.paths = new ArrayList<CompiledPath>(paths.size());
+
+        Node top = new Node(null);
+        for (int i = 0; i < paths.size(); i++) {
+            CompiledPath path = (CompiledPath) paths.get(i);
+            isTrue(!path.isFunctionPath(), "Function paths can not be evaluated in a path set: " + path);
+            this.paths.add(path);
+            add(top, path.getRoot(), i);
+        }
+        this.fork = top.link();
+    }
+
+    private static void add(Node node, PathToken token, int pathIndex) {
+        while (isShareable(token)) {
+            Node child = node.child(token);
+            if (child == null) {
+                // the shared tokens are relinked to forks, the paths keep their own tokens
+                child = new Node(token.copy());
+                node.children.add(child);
+            }
+            child.paths.add(pathIndex);
+            node = child;
+            token = token.next();
+        }
+        node.suffixes.add(token);
+        node.suffixPaths.add(pathIndex);
+    }
+
+    private static boolean isShareable(PathToken token) {
+        if (token.isLeaf()) {
+            // a leaf adds results and handles missing properties differently
+            return false;
+        }
+        return token instanceof RootPathToken
+                || token instanceof PropertyPathToken
+                || token instanceof ArrayPathToken
+                || token instanceof WildcardPathToken;
+    }
+
+    /**
+     * @return the paths of the set, in the order they were given
+     */
+    public List<CompiledPath> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Evaluates all paths of the set
+     *
+     * @param document the json document to apply the paths on
+     * @param configuration configuration to use
+     * @return an evaluation context per path, in the order the paths were given. The context of a path whose
+     *         evaluation failed rethrows the exception when its results are asked for.
+     */
+    public List<EvaluationContext> evaluate(Object document, Configuration configuration) {
+        SetEvaluationContext ctx = new SetEvaluationContext(this, document, configuration);
+        fork.evaluate(null, PathRef.NO_OP, document, ctx);
+
+        List<EvaluationContext> result = new ArrayList<EvaluationContext>(paths.size());
+        for (int i = 0; i < paths.size(); i++) {
+            RuntimeException failure = ctx.failures[i];
+            result.add(failure == null ? ctx.contexts[i] : new FailedEvaluationContext(ctx.contexts[i], failure));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return paths.toString();
+    }
+
+    private static final class Node {
+        private final PathToken token;
+        private final List<Node> children = new ArrayList<Node>();
+        private final List<Integer> paths = new ArrayList<Integer>();
+        private final List<PathToken> suffixes = new ArrayList<PathToken>();
+        private final List<Integer> suffixPaths = new ArrayList<Integer>();
+
+        private Node(PathToken token) {
+            this.token = token;
+        }
+
+        private Node child(PathToken token) {
+            for (Node child : children) {
+                if (child.token.getClass() == token.getClass()
+                        && child.token.getPathFragment().equals(token.getPathFragment())) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        private Fork link() {
+            Fork fork = new Fork(this);
+            if (token != null) {
+                token.setNext(fork);
+            }
+            return fork;
+        }
+    }
+
+    /**
+     * Continues the evaluation of a shared token with the tokens that follow it in each of the paths.
+     */
+    private static final class Fork extends PathToken {
+        private final PathToken[] shared;
+        private final int[][] sharedPaths;
+        private final PathToken[] suffixes;
+        private final int[] suffixPaths;
+
+        private Fork(Node node) {
+            this.shared = new PathToken[node.children.size()];
+            this.sharedPaths = new int[node.children.size()][];
+            for (int i = 0; i < shared.length; i++) {
+                Node child = node.children.get(i);
+                child.link();
+                shared[i] = child.token;
+                sharedPaths[i] = toArray(child.paths);
+            }
+            this.suffixes = node.suffixes.toArray(new PathToken[0]);
+            this.suffixPaths = toArray(node.suffixPaths);
+        }
+
+        @Override
+        public void evaluate(PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
+            SetEvaluationContext set = (SetEvaluationContext) ctx;
+            for (int i = 0; i < shared.length; i++) {
+                if (set.isPending(sharedPaths[i])) {
+                    try {
+                        shared[i].evaluate(currentPath, parent, model, set);
+                    } catch (RuntimeException e) {
+                        // each of the paths would have failed the same way on its own
+                        set.fail(sharedPaths[i], e);
+                    }
+                }
+            }
+            for (int i = 0; i < suffixes.length; i++) {
+                int path = suffixPaths[i];
+                if (set.isPending(path)) {
+                    try {
+                        suffixes[i].evaluate(currentPath, parent, model, set.contexts[path]);
+                    } catch (EvaluationAbortException abort) {
+                        set.done[path] = true;
+                    } catch (RuntimeException e) {
+                        set.fail(path, e);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean isTokenDefinite() {
+            return true;
+        }
+
+        @Override
+        protected String getPathFragment() {
+            return "";
+        }
+
+        private static int[] toArray(List<Integer> list) {
+            int[] array = new int[list.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = list.get(i);
+            }
+            return array;
+        }
+    }
+
+    /**
+     * The context shared tokens are evaluated with, it holds the contexts and the state of the individual paths.
+     */
+    private static final class SetEvaluationContext extends EvaluationContextImpl {
+        private final EvaluationContextImpl[] contexts;
+        private final RuntimeException[] failures;
+        private final boolean[] done;
+
+        private SetEvaluationContext(CompiledPathSet set, Object document, Configuration configuration) {
+            super(set.paths.get(0), document, configuration, false);
+            int size = set.paths.size();
+            this.contexts = new EvaluationContextImpl[size];
+            this.failures = new RuntimeException[size];
+            this.done = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                contexts[i] = new EvaluationContextImpl(set.paths.get(i), document, configuration, false);
+            }
+        }
+
+        private boolean isPending(int path) {
+            return !done[path];
+        }
+
+        private boolean isPending(int[] paths) {
+            for (int path : paths) {
+                if (!done[path]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void fail(int path, RuntimeException e) {
+            failures[path] = e;
+            done[path] = true;
+        }
+
+        private void fail(int[] paths, RuntimeException e) {
+            for (int path : paths) {
+                if (!done[path]) {
+                    fail(path, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * The context of a path whose evaluation failed.
+     */
+    private static final class FailedEvaluationContext implements EvaluationContext {
+        private final EvaluationContext ctx;
+        private final RuntimeException failure;
+
+        private FailedEvaluationContext(EvaluationContext ctx, RuntimeException failure) {
+            this.ctx = ctx;
+            this.failure = failure;
+        }
+
+        @Override
+        public Configuration configuration() {
+            return ctx.configuration();
+        }
+
+        @Override
+        public Object rootDocument() {
+            return ctx.rootDocument();
+        }
+
+        @Override
+        public <T> T getValue() {
+            throw failure;
+        }
+
+        @Override
+        public <T> T getValue(boolean unwrap) {
+            throw failure;
+        }
+
+        @Override
+        public <T> T getPath() {
+            throw failure;
+        }
+
+        @Override
+        public List<String> getPathList() {
+            throw failure;
+        }
+
+        @Override
+        public Collection<PathRef> updateOperations() {
+            throw failure;
+        }
+    }
+}
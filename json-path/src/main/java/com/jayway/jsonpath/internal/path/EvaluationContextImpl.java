@@ -22,13 +22,17 @@ import com.jayway.jsonpath.internal.EvaluationAbortException;
 import com.jayway.jsonpath.internal.EvaluationContext;
 import com.jayway.jsonpath.internal.Path;
 import com.jayway.jsonpath.internal.PathRef;
+import com.jayway.jsonpath.internal.filter.ValueNode;
+import com.jayway.jsonpath.internal.function.Parameter;
 import com.jayway.jsonpath.spi.json.JsonProvider;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.jayway.jsonpath.internal.Utils.notNull;
@@ -42,14 +46,21 @@ public class EvaluationContextImpl implements EvaluationContext {
 
     private final Configuration configuration;
     private final Object valueResult;
-    private final Object pathResult;
+    private final List<PathSegment> pathSegments;
+    private Object pathResult;
     private final Path path;
     private final Object rootDocument;
     private final List<PathRef> updateOperations;
     private final HashMap<Path, Object> documentEvalCache = new HashMap<Path, Object>();
     private final boolean forUpdate;
     private final boolean suppressExceptions;
+    private final Map<String, ValueNode> parameters;
     private int resultIndex = 0;
+    private IdentityHashMap<PathToken, List<Parameter>> functionParameters;
+    private PathToken upstreamArrayIndexToken;
+    private int upstreamArrayIndex = -1;
+    private List<Object> forkedResults;
+    private PredicateContextImpl predicateContext;
 
 
     public RootPathToken getRoot(){
@@ -57,6 +68,10 @@ public class EvaluationContextImpl implements EvaluationContext {
     }
 
     public EvaluationContextImpl(Path path, Object rootDocument, Configuration configuration, boolean forUpdate) {
+        this(path, rootDocument, configuration, forUpdate, Collections.<String, ValueNode>emptyMap());
+    }
+
+    public EvaluationContextImpl(Path path, Object rootDocument, Configuration configuration, boolean forUpdate, Map<String, ValueNode> parameters) {
         notNull(path, "path can not be null");
         notNull(rootDocument, "root can not be null");
         notNull(configuration, "configuration can not be null");
@@ -65,37 +80,136 @@ public class EvaluationContextImpl implements EvaluationContext {
         this.rootDocument = rootDocument;
         this.configuration = configuration;
         this.valueResult = configuration.jsonProvider().createArray();
-        this.pathResult = configuration.jsonProvider().createArray();
+        this.pathSegments = new ArrayList<PathSegment>();
         this.updateOperations = new ArrayList<>();
         this.suppressExceptions = configuration.containsOption(Option.SUPPRESS_EXCEPTIONS);
+        this.parameters = parameters;
+    }
+
+    /**
+     * Creates a context that evaluates part of this evaluation on another thread. The fork only collects its results,
+     * they are added to this context, and reported to the listeners, by {@link #merge(EvaluationContextImpl)}.
+     * @return a new context for the same path and document
+     */
+    EvaluationContextImpl fork() {
+        EvaluationContextImpl fork = new EvaluationContextImpl(path, rootDocument, configuration, forUpdate, parameters);
+        fork.forkedResults = new ArrayList<Object>();
+        return fork;
+    }
+
+    /**
+     * Adds the results of a fork to this context, in the order the fork found them
+     * @param fork context created by {@link #fork()}
+     */
+    void merge(EvaluationContextImpl fork) {
+        for (int i = 0; i < fork.forkedResults.size(); i++) {
+            addResult(fork.pathSegments.get(i), PathRef.NO_OP, fork.forkedResults.get(i));
+        }
     }
 
     public HashMap<Path, Object> documentEvalCache() {
         return documentEvalCache;
     }
 
+    /**
+     * The predicate context of this evaluation, pointed at the given item. The same context is returned for every
+     * item, predicates that may keep it must be given a {@link PredicateContextImpl#copy()}.
+     * @param item the item that is filtered
+     * @return the predicate context for the item
+     */
+    PredicateContextImpl predicateContext(Object item) {
+        if (predicateContext == null) {
+            predicateContext = new PredicateContextImpl(item, rootDocument, configuration, documentEvalCache, parameters);
+        } else {
+            predicateContext.reset(item);
+        }
+        return predicateContext;
+    }
+
     public boolean forUpdate(){
         return forUpdate;
     }
 
-    public void addResult(String path, PathRef operation, Object model) {
+    /**
+     * @return the values of the filter parameters of this evaluation
+     */
+    public Map<String, ValueNode> parameters() {
+        return parameters;
+    }
+
+    /**
+     * Returns the parameters bound to the given function token during this evaluation
+     * @param token function token
+     * @return the bound parameters or null if the function has not been evaluated yet
+     */
+    public List<Parameter> functionParameters(FunctionPathToken token) {
+        return functionParameters == null ? null : functionParameters.get(token);
+    }
+
+    public void functionParameters(FunctionPathToken token, List<Parameter> parameters) {
+        if (functionParameters == null) {
+            functionParameters = new IdentityHashMap<PathToken, List<Parameter>>();
+        }
+        functionParameters.put(token, parameters);
+    }
+
+    /**
+     * Returns the array index a scan has reached above the given token, or -1 if there is none
+     * @param token path token
+     * @return the upstream array index
+     */
+    public int upstreamArrayIndex(PathToken token) {
+        return token == upstreamArrayIndexToken ? upstreamArrayIndex : -1;
+    }
+
+    /**
+     * Records the array index a scan has reached above the given token. Only the leaf token of a path reads it, so
+     * a single token and index are kept.
+     * @param token the leaf path token
+     * @param idx the upstream array index
+     */
+    public void upstreamArrayIndex(PathToken token, int idx) {
+        upstreamArrayIndexToken = token;
+        upstreamArrayIndex = idx;
+    }
+
+    public void addResult(PathSegment path, PathRef operation, Object model) {
+
+        if (forkedResults != null) {
+            pathSegments.add(path);
+            forkedResults.add(model);
+            return;
+        }
 
         if(forUpdate) {
             updateOperations.add(operation);
         }
 
         configuration.jsonProvider().setArrayIndex(valueResult, resultIndex, model);
-        configuration.jsonProvider().setArrayIndex(pathResult, resultIndex, path);
+        pathSegments.add(path);
         resultIndex++;
         if(!configuration().getEvaluationListeners().isEmpty()){
-            int idx = resultIndex - 1;
-            for (EvaluationListener listener : configuration().getEvaluationListeners()) {
-                EvaluationListener.EvaluationContinuation continuation = listener.resultFound(new FoundResultImpl(idx, path, model));
-                if(EvaluationListener.EvaluationContinuation.ABORT == continuation){
-                    throw ABORT_EVALUATION;
-                }
+            if(!notifyListeners(resultIndex - 1, path, model)){
+                throw ABORT_EVALUATION;
+            }
+        }
+    }
+
+    /**
+     * Reports a result to the evaluation listeners of the configuration
+     * @param index index of the result
+     * @param path path of the result
+     * @param model the result
+     * @return false if a listener aborted the evaluation
+     */
+    boolean notifyListeners(int index, PathSegment path, Object model) {
+        for (EvaluationListener listener : configuration().getEvaluationListeners()) {
+            EvaluationListener.EvaluationContinuation continuation = listener.resultFound(new FoundResultImpl(index, path, model));
+            if(EvaluationListener.EvaluationContinuation.ABORT == continuation){
+                return false;
             }
         }
+        return true;
     }
 
 
@@ -107,6 +221,10 @@ public class EvaluationContextImpl implements EvaluationContext {
         return configuration.getOptions();
     }
 
+    public boolean containsOption(Option option) {
+        return configuration.containsOption(option);
+    }
+
     @Override
     public Configuration configuration() {
         return configuration;
@@ -151,6 +269,17 @@ public class EvaluationContextImpl implements EvaluationContext {
         return (T)valueResult;
     }
 
+    /**
+     * @return the value like {@link #getValue()} does, or {@link JsonProvider#UNDEFINED} instead of throwing
+     * when a definite path has no result
+     */
+    Object getValueOrUndefined() {
+        if (resultIndex == 0 && path.isDefinite() && !suppressExceptions) {
+            return JsonProvider.UNDEFINED;
+        }
+        return getValue(true);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getPath() {
@@ -160,17 +289,21 @@ public class EvaluationContextImpl implements EvaluationContext {
             }
             throw new PathNotFoundException("No results for path: " + path.toString());
         }
+        if (pathResult == null) {
+            // path strings are only built when they are asked for
+            pathResult = configuration.jsonProvider().createArray();
+            for (int i = 0; i < pathSegments.size(); i++) {
+                configuration.jsonProvider().setArrayIndex(pathResult, i, pathSegments.get(i).toString());
+            }
+        }
         return (T)pathResult;
     }
 
     @Override
     public List<String> getPathList() {
         List<String> res = new ArrayList<String>();
-        if(resultIndex > 0){
-            Iterable<?> objects = configuration.jsonProvider().toIterable(pathResult);
-            for (Object o : objects) {
-                res.add((String)o);
-            }
+        for (PathSegment segment : pathSegments) {
+            res.add(segment.toString());
         }
         return res;
     }
@@ -178,10 +311,10 @@ public class EvaluationContextImpl implements EvaluationContext {
     private static class FoundResultImpl implements EvaluationListener.FoundResult {
 
         private final int index;
-        private final String path;
+        private final PathSegment path;
         private final Object result;
 
-        private FoundResultImpl(int index, String path, Object result) {
+        private FoundResultImpl(int index, PathSegment path, Object result) {
             this.index = index;
             this.path = path;
             this.result = result;
@@ -194,7 +327,7 @@ public class EvaluationContextImpl implements EvaluationContext {
 
         @Override
         public String path() {
-            return path;
+            return path.toString();
         }
 
         @Override
@@ -1,13 +1,12 @@
 package com.jayway.jsonpath.internal.path;
 
-import com.jayway.jsonpath.internal.Path;
 import com.jayway.jsonpath.internal.PathRef;
 import com.jayway.jsonpath.internal.function.Parameter;
 import com.jayway.jsonpath.internal.function.PathFunction;
 import com.jayway.jsonpath.internal.function.PathFunctionFactory;
-import com.jayway.jsonpath.internal.function.latebinding.JsonLateBindingValue;
 import com.jayway.jsonpath.internal.function.latebinding.PathLateBindingValue;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -35,55 +34,44 @@ public class FunctionPathToken extends PathToken {
     }
 
     @Override
-    public void evaluate(String currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
+    public void evaluate(PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
         PathFunction pathFunction = PathFunctionFactory.newFunction(functionName);
-        evaluateParameters(currentPath, parent, model, ctx);
-        Object result = pathFunction.invoke(currentPath, parent, model, ctx, functionParams);
-        ctx.addResult(currentPath + "." + functionName, parent, result);
-        cleanWildcardPathToken();
+        List<Parameter> parameters = evaluateParameters(ctx);
+        Object result = pathFunction.invoke(currentPath.toString(), parent, model, ctx, parameters);
+        ctx.addResult(currentPath.fragment("." + functionName), parent, result);
         if (!isLeaf()) {
             next().evaluate(currentPath, parent, result, ctx);
         }
     }
 
-    private void cleanWildcardPathToken() {
-        if (null != functionParams && functionParams.size() > 0) {
-            Path path = functionParams.get(0).getPath();
-            if (null != path && !path.isFunctionPath() && path instanceof CompiledPath) {
-                RootPathToken root = ((CompiledPath) path).getRoot();
-                PathToken tail = root.getNext();
-                while (null != tail && null != tail.getNext() ) {
-                    if(tail.getNext() instanceof WildcardPathToken){
-                        tail.setNext(tail.getNext().getNext());
-                        break;
-                    }
-                    tail = tail.getNext();
-                }
-            }
+    /**
+     * Binds the parameters of this function for the current evaluation. The compiled parameters are shared between
+     * threads, so the bound copies are kept in the evaluation context and path parameters are evaluated only once
+     * per evaluation.
+     */
+    private List<Parameter> evaluateParameters(EvaluationContextImpl ctx) {
+        if (null == functionParams) {
+            return null;
         }
-    }
-
-    private void evaluateParameters(String currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
-
-        if (null != functionParams) {
+        List<Parameter> parameters = ctx.functionParameters(this);
+        if (null == parameters) {
+            parameters = new ArrayList<Parameter>(functionParams.size());
             for (Parameter param : functionParams) {
                 switch (param.getType()) {
                     case PATH:
-                        PathLateBindingValue pathLateBindingValue = new PathLateBindingValue(param.getPath(), ctx.rootDocument(), ctx.configuration());
-                        if (!param.hasEvaluated()||!pathLateBindingValue.equals(param.getILateBingValue())) {
-                            param.setLateBinding(pathLateBindingValue);
-                            param.setEvaluated(true);
-                        }
+                        parameters.add(param.bind(new PathLateBindingValue(param.getPath(), ctx.rootDocument(), ctx.configuration(), ctx.parameters())));
                         break;
                     case JSON:
-                        if (!param.hasEvaluated()) {
-                            param.setLateBinding(new JsonLateBindingValue(ctx.configuration().jsonProvider(), param));
-                            param.setEvaluated(true);
-                        }
+                        parameters.add(param.bind(param.jsonLateBinding(ctx.configuration().jsonProvider())));
+                        break;
+                    default:
+                        parameters.add(param);
                         break;
                 }
             }
+            ctx.functionParameters(this, parameters);
         }
+        return parameters;
     }
 
     /**
@@ -0,0 +1,514 @@
+/*
+ * Copyright 2011 the original author or authors.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jayway.jsonpath.internal.path;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.PathNotFoundException;
+import com.jayway.jsonpath.internal.PathRef;
+import com.jayway.jsonpath.internal.Utils;
+import com.jayway.jsonpath.spi.json.JsonProvider;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Evaluates a path one result at a time.
+ *
+ * The tokens of a path call each other recursively, so a path is normally evaluated in one go and every result is
+ * collected before the first one is returned. Here the path is evaluated on a copy of its tokens with a capture token
+ * between them. A capture does not continue the evaluation, it records the node the next token is to be evaluated on.
+ * The recorded nodes are kept on a stack of frames and evaluated when the next result is asked for, in the same order
+ * the recursive evaluation visits them. Wildcards, filters on arrays and scans are evaluated one child at a time, so
+ * a large array is not walked any further than the results that are read from it.
+ *
+ * Where a token catches exceptions thrown further down the path, the frame of the token catches them in its place.
+ * Tokens that are evaluated inside a scan, and the token following one of those that catches exceptions, are not
+ * separated by a capture and run as they do in the recursive evaluation.
+ */
+class LazyPathEvaluator {
+
+    private LazyPathEvaluator() {
+    }
+
+    /**
+     * Copies the tokens of a path and links a capture between them
+     * @param root root token of the path
+     * @return root token of the copy
+     */
+    static RootPathToken compile(RootPathToken root) {
+        RootPathToken copy = (RootPathToken) root.copy();
+        PathToken original = root;
+        PathToken token = copy;
+        while (!original.isLeaf()) {
+            PathToken next = original.next().copy();
+            if (isCapturePoint(original)) {
+                Capture capture = new Capture();
+                token.setNext(capture);
+                capture.setNext(next);
+            } else {
+                token.setNext(next);
+            }
+            original = original.next();
+            token = next;
+        }
+        return copy;
+    }
+
+    private static boolean isCapturePoint(PathToken token) {
+        PathToken prev = token.prev();
+        if (token instanceof ScanPathToken || prev instanceof ScanPathToken) {
+            // a scan evaluates the token following it, and the one after that, itself
+            return false;
+        }
+        return !(prev != null && prev.prev() instanceof ScanPathToken && catchesDownstream(token));
+    }
+
+    private static boolean catchesDownstream(PathToken token) {
+        return token instanceof WildcardPathToken
+                || token instanceof ArrayPathToken
+                || token instanceof PredicatePathToken;
+    }
+
+    /**
+     * Returns the results of a path as they are evaluated
+     * @param path the path
+     * @param root root token of the path, as returned by {@link #compile(RootPathToken)}
+     * @param document the json document to apply the path on
+     * @param rootDocument the root json document that started this evaluation
+     * @param configuration configuration to use
+     * @return an iterator over the values, or the paths if {@link Option#AS_PATH_LIST} is set, matched by the path
+     */
+    static Iterator<Object> iterator(CompiledPath path, RootPathToken root, Object document, Object rootDocument, Configuration configuration) {
+        return new Results(path, root, document, rootDocument, configuration);
+    }
+
+    /**
+     * A node the evaluation continues on, or a result if there is no token
+     */
+    private static final class Event {
+        private final PathToken token;
+        private final PathSegment path;
+        private final PathRef parent;
+        private final Object model;
+
+        private Event(PathToken token, PathSegment path, PathRef parent, Object model) {
+            this.token = token;
+            this.path = path;
+            this.parent = parent;
+            this.model = model;
+        }
+    }
+
+    private static final class Capture extends PathToken {
+
+        @Override
+        public void evaluate(PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
+            ((LazyEvaluationContext) ctx).events.add(new Event(next(), currentPath, parent, model));
+        }
+
+        @Override
+        public boolean isTokenDefinite() {
+            return true;
+        }
+
+        @Override
+        protected String getPathFragment() {
+            return "";
+        }
+    }
+
+    private static final class LazyEvaluationContext extends EvaluationContextImpl {
+        private List<Event> events = new ArrayList<Event>();
+
+        private LazyEvaluationContext(CompiledPath path, Object rootDocument, Configuration configuration) {
+            super(path, rootDocument, configuration, false);
+        }
+
+        @Override
+        public void addResult(PathSegment path, PathRef operation, Object model) {
+            events.add(new Event(null, path, operation, model));
+        }
+
+        private List<Event> takeEvents() {
+            if (events.isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<Event> taken = events;
+            events = new ArrayList<Event>();
+            return taken;
+        }
+    }
+
+    private static final class Results implements Iterator<Object> {
+        private final LazyEvaluationContext ctx;
+        private final boolean asPathList;
+        private final boolean notifyListeners;
+        private final Deque<Frame> frames = new ArrayDeque<Frame>();
+        private Event next;
+        private int resultIndex;
+        private boolean aborted;
+
+        private Results(CompiledPath path, RootPathToken root, Object document, Object rootDocument, Configuration configuration) {
+            this.ctx = new LazyEvaluationContext(path, rootDocument, configuration);
+            this.asPathList = configuration.containsOption(Option.AS_PATH_LIST);
+            this.notifyListeners = !configuration.getEvaluationListeners().isEmpty();
+            frames.push(new EvaluateFrame(new Event(root, null, PathRef.NO_OP, document)));
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !aborted && !frames.isEmpty()) {
+                advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Event result = next;
+            next = null;
+            return asPathList ? result.path.toString() : result.model;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private void advance() {
+            Frame frame = frames.peek();
+            boolean more;
+            RuntimeException failure = null;
+            try {
+                more = frame.step(this);
+            } catch (RuntimeException e) {
+                more = true;
+                failure = e;
+            }
+            List<Event> events = ctx.takeEvents();
+            if (!more) {
+                frames.pop();
+                if (frame.failure() != null) {
+                    unwind(frame.failure());
+                }
+            } else if (!events.isEmpty() || failure != null) {
+                // the results and nodes of the step come first, the failure after them
+                frames.push(new EventsFrame(events, failure, frame.catchesIndexOutOfBounds()));
+            }
+        }
+
+        private void unwind(RuntimeException failure) {
+            while (!frames.isEmpty()) {
+                if (frames.peek().catches(failure, ctx)) {
+                    return;
+                }
+                frames.pop();
+            }
+            throw Utils.toPublicException(failure);
+        }
+
+        private void result(Event result) {
+            next = result;
+            if (notifyListeners && !ctx.notifyListeners(resultIndex, result.path, result.model)) {
+                aborted = true;
+            }
+            resultIndex++;
+        }
+
+        private void evaluate(Event node) {
+            PathToken token = node.token;
+            JsonProvider provider = ctx.jsonProvider();
+            if (token instanceof ScanPathToken) {
+                frames.push(new ScanFrame(node, ctx));
+            } else if (token instanceof WildcardPathToken && provider.isArray(node.model)) {
+                frames.push(new WildcardArrayFrame(node, provider.length(node.model)));
+            } else if (token instanceof WildcardPathToken && provider.isMap(node.model)) {
+                frames.push(new WildcardObjectFrame(node, provider.getPropertyEntries(node.model).iterator()));
+            } else if (token instanceof PredicatePathToken && provider.isArray(node.model)) {
+                frames.push(new FilterArrayFrame(node, provider.toIterable(node.model).iterator()));
+            } else {
+                frames.push(new EvaluateFrame(node));
+            }
+        }
+    }
+
+    private abstract static class Frame {
+
+        /**
+         * Evaluates the next part of this frame
+         * @return false if there is nothing left to evaluate
+         */
+        abstract boolean step(Results results);
+
+        /**
+         * @return true if the failure, thrown while evaluating the current part further down the path, only ends
+         * that part
+         */
+        boolean catches(RuntimeException failure, EvaluationContextImpl ctx) {
+            return false;
+        }
+
+        /**
+         * @return true if the nodes of a step are array elements whose evaluation ignores missing indexes
+         */
+        boolean catchesIndexOutOfBounds() {
+            return false;
+        }
+
+        /**
+         * @return the failure to throw when this frame is done
+         */
+        RuntimeException failure() {
+            return null;
+        }
+    }
+
+    /**
+     * Evaluates a token on a node in one go
+     */
+    private static final class EvaluateFrame extends Frame {
+        private final Event node;
+        private boolean evaluated;
+
+        private EvaluateFrame(Event node) {
+            this.node = node;
+        }
+
+        @Override
+        boolean step(Results results) {
+            if (evaluated) {
+                return false;
+            }
+            evaluated = true;
+            node.token.evaluate(node.path, node.parent, node.model, results.ctx);
+            return true;
+        }
+
+        @Override
+        boolean catchesIndexOutOfBounds() {
+            return node.token instanceof ArrayPathToken;
+        }
+    }
+
+    /**
+     * Hands out the results and nodes of a step one by one
+     */
+    private static final class EventsFrame extends Frame {
+        private final List<Event> events;
+        private final RuntimeException failure;
+        private final boolean catchesIndexOutOfBounds;
+        private int idx;
+
+        private EventsFrame(List<Event> events, RuntimeException failure, boolean catchesIndexOutOfBounds) {
+            this.events = events;
+            this.failure = failure;
+            this.catchesIndexOutOfBounds = catchesIndexOutOfBounds;
+        }
+
+        @Override
+        boolean step(Results results) {
+            if (idx == events.size()) {
+                return false;
+            }
+            Event event = events.get(idx++);
+            if (event.token == null) {
+                results.result(event);
+            } else {
+                results.evaluate(event);
+            }
+            return true;
+        }
+
+        @Override
+        boolean catches(RuntimeException failure, EvaluationContextImpl ctx) {
+            return catchesIndexOutOfBounds && failure instanceof IndexOutOfBoundsException;
+        }
+
+        @Override
+        RuntimeException failure() {
+            return failure;
+        }
+    }
+
+    private static final class WildcardArrayFrame extends Frame {
+        private final Event node;
+        private final int length;
+        private int idx;
+
+        private WildcardArrayFrame(Event node, int length) {
+            this.node = node;
+            this.length = length;
+        }
+
+        @Override
+        boolean step(Results results) {
+            if (idx == length) {
+                return false;
+            }
+            node.token.handleArrayIndex(idx++, node.path, node.model, results.ctx);
+            return true;
+        }
+
+        @Override
+        boolean catches(RuntimeException failure, EvaluationContextImpl ctx) {
+            return failure instanceof IndexOutOfBoundsException
+                    || failure instanceof PathNotFoundException && !ctx.containsOption(Option.REQUIRE_PROPERTIES);
+        }
+    }
+
+    private static final class WildcardObjectFrame extends Frame {
+        private final Event node;
+        private final Iterator<Map.Entry<String, Object>> properties;
+
+        private WildcardObjectFrame(Event node, Iterator<Map.Entry<String, Object>> properties) {
+            this.node = node;
+            this.properties = properties;
+        }
+
+        @Override
+        boolean step(Results results) {
+            if (!properties.hasNext()) {
+                return false;
+            }
+            Map.Entry<String, Object> property = properties.next();
+            node.token.handleObjectProperty(node.path, node.model, results.ctx, property.getKey(), property.getValue());
+            return true;
+        }
+    }
+
+    private static final class FilterArrayFrame extends Frame {
+        private final Event node;
+        private final Iterator<?> elements;
+        private int idx;
+
+        private FilterArrayFrame(Event node, Iterator<?> elements) {
+            this.node = node;
+            this.elements = elements;
+        }
+
+        @Override
+        boolean step(Results results) {
+            if (!elements.hasNext()) {
+                return false;
+            }
+            PredicatePathToken token = (PredicatePathToken) node.token;
+            EvaluationContextImpl ctx = results.ctx;
+            if (token.accept(elements.next(), ctx.rootDocument(), ctx.configuration(), ctx)) {
+                token.handleArrayIndex(idx, node.path, node.model, ctx);
+            }
+            idx++;
+            return true;
+        }
+
+        @Override
+        boolean catches(RuntimeException failure, EvaluationContextImpl ctx) {
+            return failure instanceof IndexOutOfBoundsException;
+        }
+    }
+
+    /**
+     * Walks the document below a node depth first, visiting one node per step
+     */
+    private static final class ScanFrame extends Frame {
+        private final Event node;
+        private final PathToken pt;
+        private final ScanPathToken.Predicate predicate;
+        private final Deque<Children> children = new ArrayDeque<Children>();
+        private boolean started;
+
+        private ScanFrame(Event node, EvaluationContextImpl ctx) {
+            this.node = node;
+            this.pt = node.token.next();
+            this.predicate = ScanPathToken.createScanPredicate(pt, ctx);
+        }
+
+        @Override
+        boolean step(Results results) {
+            if (!started) {
+                started = true;
+                visit(node.path, node.parent, node.model, results.ctx);
+                return true;
+            }
+            while (!children.isEmpty()) {
+                Children current = children.peek();
+                if (current.next()) {
+                    visit(current.path, PathRef.NO_OP, current.model, results.ctx);
+                    return true;
+                }
+                children.pop();
+            }
+            return false;
+        }
+
+        private void visit(PathSegment path, PathRef parent, Object model, EvaluationContextImpl ctx) {
+            JsonProvider provider = ctx.jsonProvider();
+            if (provider.isMap(model)) {
+                ScanPathToken.visit(pt, path, parent, model, ctx, predicate);
+                children.push(new Children(path, null, provider.getPropertyEntries(model).iterator()));
+            } else if (provider.isArray(model)) {
+                ScanPathToken.visit(pt, path, parent, model, ctx, predicate);
+                children.push(new Children(path, provider.toIterable(model).iterator(), null));
+            }
+        }
+    }
+
+    /**
+     * The children of an array or an object that are left to scan
+     */
+    private static final class Children {
+        private final PathSegment parentPath;
+        private final Iterator<?> elements;
+        private final Iterator<Map.Entry<String, Object>> properties;
+        private int idx;
+        private PathSegment path;
+        private Object model;
+
+        private Children(PathSegment parentPath, Iterator<?> elements, Iterator<Map.Entry<String, Object>> properties) {
+            this.parentPath = parentPath;
+            this.elements = elements;
+            this.properties = properties;
+        }
+
+        private boolean next() {
+            if (elements != null) {
+                if (!elements.hasNext()) {
+                    return false;
+                }
+                model = elements.next();
+                path = parentPath.index(idx++);
+                return true;
+            }
+            while (properties.hasNext()) {
+                Map.Entry<String, Object> property = properties.next();
+                if (property.getValue() != JsonProvider.UNDEFINED) {
+                    model = property.getValue();
+                    path = parentPath.property(property.getKey());
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.jayway.jsonpath.internal.path;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.Predicate;
 import com.jayway.jsonpath.internal.CharacterIndex;
+import com.jayway.jsonpath.internal.ClockCache;
 import com.jayway.jsonpath.internal.Path;
 import com.jayway.jsonpath.internal.Utils;
 import com.jayway.jsonpath.internal.filter.FilterCompiler;
@@ -42,6 +43,12 @@ public class PathCompiler {
     private static final char SINGLE_QUOTE = '\'';
     private static final char DOUBLE_QUOTE = '"';
 
+    private static final int FRAGMENT_CACHE_LIMIT = 1024;
+    // Compiled filters and paths inside filters by their text, paths often share their filters and the paths the
+    // filters compare. A fragment is not changed once it is compiled, the paths and threads that use it share it.
+    private static final ClockCache<Predicate> FILTERS = new ClockCache<Predicate>(FRAGMENT_CACHE_LIMIT);
+    private static final ClockCache<Path> SUB_PATHS = new ClockCache<Path>(FRAGMENT_CACHE_LIMIT);
+
     private final LinkedList<Predicate> filterStack;
     private final CharacterIndex path;
 
@@ -84,6 +91,40 @@ public class PathCompiler {
         }
     }
 
+    /**
+     * Compiles a path that is used inside a filter. The path has no placeholder filters, so the compiled path is
+     * shared with the other filters that use the same path.
+     *
+     * @param path the path
+     * @return the compiled path
+     */
+    public static Path compileSubPath(String path) {
+        String key = path.trim();
+        Path compiled = SUB_PATHS.get(key);
+        if (compiled == null) {
+            compiled = compile(key);
+            SUB_PATHS.put(key, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Compiles the expression of an inline filter, the part between the parentheses of <code>[?(...)]</code>. The
+     * filter is shared with the other paths that use the same expression, whatever the whitespace around it.
+     *
+     * @param expression the filter expression
+     * @return the compiled filter
+     */
+    private static Predicate compileFilter(String expression) {
+        String key = "[?(" + expression.trim() + ")]";
+        Predicate predicate = FILTERS.get(key);
+        if (predicate == null) {
+            predicate = FilterCompiler.compile(key);
+            FILTERS.put(key, predicate);
+        }
+        return predicate;
+    }
+
     private void readWhitespace() {
         while (path.inBounds()) {
             char c = path.currentChar();
@@ -454,7 +495,6 @@ public class PathCompiler {
             return false;
         }
 
-        int openStatementBracketIndex = path.position();
         int questionMarkIndex = path.indexOfNextSignificantChar(BEGIN_FILTER);
         if (questionMarkIndex == -1) {
             return false;
@@ -472,10 +512,10 @@ public class PathCompiler {
         }
         int closeStatementBracketIndex = path.indexOfNextSignificantChar(closeBracketIndex, CLOSE_SQUARE_BRACKET);
 
-        String criteria = path.subSequence(openStatementBracketIndex, closeStatementBracketIndex + 1).toString();
+        String expression = path.subSequence(openBracketIndex + 1, closeBracketIndex).toString();
 
 
-        Predicate predicate = FilterCompiler.compile(criteria);
+        Predicate predicate = compileFilter(expression);
         appender.appendPathToken(PathTokenFactory.createPredicatePathToken(predicate));
 
         path.setPosition(closeStatementBracketIndex + 1);
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2011 the original author or authors.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jayway.jsonpath.internal.path;
+
+import com.jayway.jsonpath.internal.Utils;
+
+import java.util.List;
+
+/**
+ * The location of the node currently being evaluated.
+ *
+ * A location is a chain of segments linked to their parent. Stepping into a property or an array index is a single
+ * small allocation, the path string (e.g. <code>$['store']['book'][0]</code>) is only built when {@link #toString()}
+ * is called, which happens when the path of a result is asked for.
+ */
+public abstract class PathSegment {
+
+    private final PathSegment parent;
+    private final int depth;
+    private String path;
+
+    private PathSegment(PathSegment parent) {
+        this.parent = parent;
+        this.depth = parent == null ? 0 : parent.depth + 1;
+    }
+
+    /**
+     * Creates the root segment of a path
+     * @param rootToken the root token, <code>$</code> or <code>@</code>
+     * @return a root segment
+     */
+    public static PathSegment root(String rootToken) {
+        return new Fragment(null, rootToken);
+    }
+
+    /**
+     * @param property property name
+     * @return a segment for <code>['property']</code> below this segment
+     */
+    public PathSegment property(String property) {
+        return new Property(this, property);
+    }
+
+    /**
+     * @param properties property names
+     * @return a segment for <code>['a', 'b']</code> below this segment
+     */
+    public PathSegment properties(List<String> properties) {
+        return new Properties(this, properties);
+    }
+
+    /**
+     * @param index array index
+     * @return a segment for <code>[index]</code> below this segment
+     */
+    public PathSegment index(int index) {
+        return new Index(this, index);
+    }
+
+    /**
+     * @param fragment a path fragment that is appended as is
+     * @return a segment for the fragment below this segment
+     */
+    public PathSegment fragment(String fragment) {
+        return new Fragment(this, fragment);
+    }
+
+    abstract void appendTo(StringBuilder sb);
+
+    @Override
+    public String toString() {
+        String p = path;
+        if (p == null) {
+            PathSegment[] segments = new PathSegment[depth + 1];
+            for (PathSegment s = this; s != null; s = s.parent) {
+                segments[s.depth] = s;
+            }
+            StringBuilder sb = new StringBuilder();
+            for (PathSegment s : segments) {
+                if (s.path != null) {
+                    // a parent may already have built its path
+                    sb.setLength(0);
+                    sb.append(s.path);
+                } else {
+                    s.appendTo(sb);
+                }
+            }
+            p = sb.toString();
+            path = p;
+        }
+        return p;
+    }
+
+    private static final class Fragment extends PathSegment {
+        private final String fragment;
+
+        private Fragment(PathSegment parent, String fragment) {
+            super(parent);
+            this.fragment = fragment;
+        }
+
+        @Override
+        void appendTo(StringBuilder sb) {
+            sb.append(fragment);
+        }
+    }
+
+    private static final class Property extends PathSegment {
+        private final String property;
+
+        private Property(PathSegment parent, String property) {
+            super(parent);
+            this.property = property;
+        }
+
+        @Override
+        void appendTo(StringBuilder sb) {
+            sb.append("['").append(property).append("']");
+        }
+    }
+
+    private static final class Properties extends PathSegment {
+        private final List<String> properties;
+
+        private Properties(PathSegment parent, List<String> properties) {
+            super(parent);
+            this.properties = properties;
+        }
+
+        @Override
+        void appendTo(StringBuilder sb) {
+            sb.append('[').append(Utils.join(", ", "'", properties)).append(']');
+        }
+    }
+
+    private static final class Index extends PathSegment {
+        private final int index;
+
+        private Index(PathSegment parent, int index) {
+            super(parent);
+            this.index = index;
+        }
+
+        @Override
+        void appendTo(StringBuilder sb) {
+            sb.append('[').append(index).append(']');
+        }
+    }
+}
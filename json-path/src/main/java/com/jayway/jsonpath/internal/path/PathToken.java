@@ -15,26 +15,19 @@
 package com.jayway.jsonpath.internal.path;
 
 import com.jayway.jsonpath.Option;
-import com.jayway.jsonpath.PathNotFoundException;
+import com.jayway.jsonpath.internal.MissingPathException;
 import com.jayway.jsonpath.internal.PathRef;
-import com.jayway.jsonpath.internal.Utils;
 import com.jayway.jsonpath.internal.function.PathFunction;
 import com.jayway.jsonpath.spi.json.JsonProvider;
 
 import java.util.List;
 
-public abstract class PathToken {
+public abstract class PathToken implements Cloneable {
 
     private PathToken prev;
     private PathToken next;
     private Boolean definite = null;
     private Boolean upstreamDefinite = null;
-    private int upstreamArrayIndex = -1;
-
-
-    public void setUpstreamArrayIndex(int idx){
-        upstreamArrayIndex = idx;
-    }
 
     PathToken appendTailToken(PathToken next) {
         this.next = next;
@@ -42,55 +35,13 @@ public abstract class PathToken {
         return next;
     }
 
-    void handleObjectProperty(String currentPath, Object model, EvaluationContextImpl ctx, List<String> properties) {
+    void handleObjectProperty(PathSegment currentPath, Object model, EvaluationContextImpl ctx, List<String> properties) {
 
         if(properties.size() == 1) {
             String property = properties.get(0);
-            String evalPath = Utils.concat(currentPath, "['", property, "']");
-            Object propertyVal = readObjectProperty(property, model, ctx);
-            if(propertyVal == JsonProvider.UNDEFINED){
-                // Conditions below heavily depend on current token type (and its logic) and are not "universal",
-                // so this code is quite dangerous (I'd rather rewrite it & move to PropertyPathToken and implemented
-                // WildcardPathToken as a dynamic multi prop case of PropertyPathToken).
-                // Better safe than sorry.
-                assert this instanceof PropertyPathToken : "only PropertyPathToken is supported";
-
-                if(isLeaf()) {
-                    if(ctx.options().contains(Option.DEFAULT_PATH_LEAF_TO_NULL)){
-                        propertyVal =  null;
-                    } else {
-                        if(ctx.options().contains(Option.SUPPRESS_EXCEPTIONS) ||
-                           !ctx.options().contains(Option.REQUIRE_PROPERTIES)){
-                            return;
-                        } else {
-                            throw new PathNotFoundException("No results for path: " + evalPath);
-                        }
-                    }
-                } else {
-                    if (! (isUpstreamDefinite() && isTokenDefinite()) &&
-                       !ctx.options().contains(Option.REQUIRE_PROPERTIES) ||
-                       ctx.options().contains(Option.SUPPRESS_EXCEPTIONS)){
-                        // If there is some indefiniteness in the path and properties are not required - we'll ignore
-                        // absent property. And also in case of exception suppression - so that other path evaluation
-                        // branches could be examined.
-                        return;
-                    } else {
-                        throw new PathNotFoundException("Missing property in path " + evalPath);
-                    }
-                }
-            }
-            PathRef pathRef = ctx.forUpdate() ? PathRef.create(model, property) : PathRef.NO_OP;
-            if (isLeaf()) {
-                String idx = "[" + String.valueOf(upstreamArrayIndex) + "]";
-                if(idx.equals("[-1]") || ctx.getRoot().getTail().prev().getPathFragment().equals(idx)){
-                    ctx.addResult(evalPath, pathRef, propertyVal);
-                }
-            }
-            else {
-                next().evaluate(evalPath, pathRef, propertyVal, ctx);
-            }
+            handleObjectProperty(currentPath, model, ctx, property, readObjectProperty(property, model, ctx));
         } else {
-            String evalPath = currentPath + "[" + Utils.join(", ", "'", properties) + "]";
+            PathSegment evalPath = currentPath.properties(properties);
 
             assert isLeaf() : "non-leaf multi props handled elsewhere";
 
@@ -100,17 +51,17 @@ public abstract class PathToken {
                 if(hasProperty(property, model, ctx)) {
                     propertyVal = readObjectProperty(property, model, ctx);
                     if(propertyVal == JsonProvider.UNDEFINED){
-                        if(ctx.options().contains(Option.DEFAULT_PATH_LEAF_TO_NULL)) {
+                        if(ctx.containsOption(Option.DEFAULT_PATH_LEAF_TO_NULL)) {
                             propertyVal = null;
                         } else {
                             continue;
                         }
                     }
                 } else {
-                    if(ctx.options().contains(Option.DEFAULT_PATH_LEAF_TO_NULL)){
+                    if(ctx.containsOption(Option.DEFAULT_PATH_LEAF_TO_NULL)){
                         propertyVal = null;
-                    } else if (ctx.options().contains(Option.REQUIRE_PROPERTIES)) {
-                        throw new PathNotFoundException("Missing property in path " + evalPath);
+                    } else if (ctx.containsOption(Option.REQUIRE_PROPERTIES)) {
+                        throw new MissingPathException("Missing property in path %s", evalPath);
                     } else {
                         continue;
                     }
@@ -122,8 +73,57 @@ public abstract class PathToken {
         }
     }
 
+    /**
+     * Evaluates a single property of an object, the value is the one {@link JsonProvider#getMapValue(Object, String)}
+     * returns for the property
+     */
+    void handleObjectProperty(PathSegment currentPath, Object model, EvaluationContextImpl ctx, String property, Object propertyVal) {
+        PathSegment evalPath = currentPath.property(property);
+        if(propertyVal == JsonProvider.UNDEFINED){
+            // Conditions below heavily depend on current token type (and its logic) and are not "universal",
+            // so this code is quite dangerous (I'd rather rewrite it & move to PropertyPathToken and implemented
+            // WildcardPathToken as a dynamic multi prop case of PropertyPathToken).
+            // Better safe than sorry.
+            assert this instanceof PropertyPathToken : "only PropertyPathToken is supported";
+
+            if(isLeaf()) {
+                if(ctx.containsOption(Option.DEFAULT_PATH_LEAF_TO_NULL)){
+                    propertyVal =  null;
+                } else {
+                    if(ctx.containsOption(Option.SUPPRESS_EXCEPTIONS) ||
+                       !ctx.containsOption(Option.REQUIRE_PROPERTIES)){
+                        return;
+                    } else {
+                        throw new MissingPathException("No results for path: %s", evalPath);
+                    }
+                }
+            } else {
+                if (! (isUpstreamDefinite() && isTokenDefinite()) &&
+                   !ctx.containsOption(Option.REQUIRE_PROPERTIES) ||
+                   ctx.containsOption(Option.SUPPRESS_EXCEPTIONS)){
+                    // If there is some indefiniteness in the path and properties are not required - we'll ignore
+                    // absent property. And also in case of exception suppression - so that other path evaluation
+                    // branches could be examined.
+                    return;
+                } else {
+                    throw new MissingPathException("Missing property in path %s", evalPath);
+                }
+            }
+        }
+        PathRef pathRef = ctx.forUpdate() ? PathRef.create(model, property) : PathRef.NO_OP;
+        if (isLeaf()) {
+            int upstreamIndex = ctx.upstreamArrayIndex(this);
+            if(upstreamIndex == -1 || ctx.getRoot().getTail().prev().getPathFragment().equals("[" + upstreamIndex + "]")){
+                ctx.addResult(evalPath, pathRef, propertyVal);
+            }
+        }
+        else {
+            next().evaluate(evalPath, pathRef, propertyVal, ctx);
+        }
+    }
+
     private static boolean hasProperty(String property, Object model, EvaluationContextImpl ctx) {
-        return ctx.jsonProvider().getPropertyKeys(model).contains(property);
+        return ctx.jsonProvider().containsKey(model, property);
     }
 
     private static Object readObjectProperty(String property, Object model, EvaluationContextImpl ctx) {
@@ -131,8 +131,8 @@ public abstract class PathToken {
     }
 
 
-    protected void handleArrayIndex(int index, String currentPath, Object model, EvaluationContextImpl ctx) {
-        String evalPath = Utils.concat(currentPath, "[", String.valueOf(index), "]");
+    protected void handleArrayIndex(int index, PathSegment currentPath, Object model, EvaluationContextImpl ctx) {
+        PathSegment evalPath = currentPath.index(index);
         PathRef pathRef = ctx.forUpdate() ? PathRef.create(model, index) : PathRef.NO_OP;
         int effectiveIndex = index < 0 ? ctx.jsonProvider().length(model) + index : index;
         try {
@@ -146,6 +146,19 @@ public abstract class PathToken {
         }
     }
 
+    /**
+     * Returns a shallow copy of this token. The copy shares everything with this token, its next token can be
+     * relinked without changing the path this token belongs to.
+     * @return a copy of this token
+     */
+    PathToken copy() {
+        try {
+            return (PathToken) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     PathToken prev(){
         return prev;
     }
@@ -214,11 +227,11 @@ public abstract class PathToken {
         return super.equals(obj);
     }
 
-    public void invoke(PathFunction pathFunction, String currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
-        ctx.addResult(currentPath, parent, pathFunction.invoke(currentPath, parent, model, ctx, null));
+    public void invoke(PathFunction pathFunction, PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
+        ctx.addResult(currentPath, parent, pathFunction.invoke(currentPath.toString(), parent, model, ctx, null));
     }
 
-    public abstract void evaluate(String currentPath, PathRef parent,  Object model, EvaluationContextImpl ctx);
+    public abstract void evaluate(PathSegment currentPath, PathRef parent,  Object model, EvaluationContextImpl ctx);
 
     public abstract boolean isTokenDefinite();
 
@@ -16,29 +16,44 @@ package com.jayway.jsonpath.internal.path;
 
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.Predicate;
+import com.jayway.jsonpath.internal.EvaluationContext;
 import com.jayway.jsonpath.internal.Path;
+import com.jayway.jsonpath.internal.filter.ValueNode;
+import com.jayway.jsonpath.spi.json.JsonProvider;
 import com.jayway.jsonpath.spi.mapper.MappingException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 
 public class PredicateContextImpl implements Predicate.PredicateContext {
 
     private static final Logger logger = LoggerFactory.getLogger(PredicateContextImpl.class);
 
-    private final Object contextDocument;
+    private Object contextDocument;
     private final Object rootDocument;
     private final Configuration configuration;
     private final HashMap<Path, Object> documentPathCache;
+    private final Map<String, ValueNode> parameters;
 
     public PredicateContextImpl(Object contextDocument, Object rootDocument, Configuration configuration, HashMap<Path, Object> documentPathCache) {
+        this(contextDocument, rootDocument, configuration, documentPathCache, Collections.<String, ValueNode>emptyMap());
+    }
+
+    public PredicateContextImpl(Object contextDocument, Object rootDocument, Configuration configuration, HashMap<Path, Object> documentPathCache, Map<String, ValueNode> parameters) {
         this.contextDocument = contextDocument;
         this.rootDocument = rootDocument;
         this.configuration = configuration;
         this.documentPathCache = documentPathCache;
+        this.parameters = parameters;
     }
 
+    /**
+     * @return the value of the path like {@link EvaluationContext#getValue()} or {@link JsonProvider#UNDEFINED} if
+     * the path is definite and has no value
+     */
     public Object evaluate(Path path){
         Object result;
         if(path.isRootPath()){
@@ -46,19 +61,48 @@ public class PredicateContextImpl implements Predicate.PredicateContext {
                 logger.debug("Using cached result for root path: " + path.toString());
                 result = documentPathCache.get(path);
             } else {
-                result = path.evaluate(rootDocument, rootDocument, configuration).getValue();
+                result = valueOf(path.evaluate(rootDocument, rootDocument, configuration, false, parameters));
                 documentPathCache.put(path, result);
             }
         } else {
-            result = path.evaluate(contextDocument, rootDocument, configuration).getValue();
+            result = valueOf(path.evaluate(contextDocument, rootDocument, configuration, false, parameters));
         }
         return result;
     }
 
+    private static Object valueOf(EvaluationContext evaluationContext) {
+        if (evaluationContext instanceof EvaluationContextImpl) {
+            return ((EvaluationContextImpl) evaluationContext).getValueOrUndefined();
+        }
+        return evaluationContext.getValue();
+    }
+
+    /**
+     * Points this context at another item, so that one context serves every item a filter is applied to
+     * @param contextDocument the item to filter
+     */
+    void reset(Object contextDocument) {
+        this.contextDocument = contextDocument;
+    }
+
+    /**
+     * @return a context for the current item that is not changed when this context is reset
+     */
+    public PredicateContextImpl copy() {
+        return new PredicateContextImpl(contextDocument, rootDocument, configuration, documentPathCache, parameters);
+    }
+
     public HashMap<Path, Object> documentPathCache() {
         return documentPathCache;
     }
 
+    /**
+     * @return the values of the filter parameters of this evaluation
+     */
+    public Map<String, ValueNode> parameters() {
+        return parameters;
+    }
+
     @Override
     public Object item() {
         return contextDocument;
@@ -17,12 +17,13 @@ package com.jayway.jsonpath.internal.path;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.Predicate;
+import com.jayway.jsonpath.internal.PathMismatchException;
 import com.jayway.jsonpath.internal.PathRef;
+import com.jayway.jsonpath.internal.filter.FilterCompiler;
 
 import java.util.Collection;
 import java.util.Collections;
 
-import static java.lang.String.format;
 import static java.util.Arrays.asList;
 
 /**
@@ -42,7 +43,7 @@ public class PredicatePathToken extends PathToken {
     }
 
     @Override
-    public void evaluate(String currentPath, PathRef ref, Object model, EvaluationContextImpl ctx) {
+    public void evaluate(PathSegment currentPath, PathRef ref, Object model, EvaluationContextImpl ctx) {
         if (ctx.jsonProvider().isMap(model)) {
             if (accept(model, ctx.rootDocument(), ctx.configuration(), ctx)) {
                 PathRef op = ctx.forUpdate() ? ref : PathRef.NO_OP;
@@ -64,17 +65,18 @@ public class PredicatePathToken extends PathToken {
             }
         } else {
             if (isUpstreamDefinite()) {
-                throw new InvalidPathException(format("Filter: %s can not be applied to primitives. Current context is: %s", toString(), model));
+                throw new PathMismatchException("Filter: %s can not be applied to primitives. Current context is: %s", this, model);
             }
         }
     }
 
     public boolean accept(final Object obj, final Object root, final Configuration configuration, EvaluationContextImpl evaluationContext) {
-        Predicate.PredicateContext ctx = new PredicateContextImpl(obj, root, configuration, evaluationContext.documentEvalCache());
+        PredicateContextImpl ctx = evaluationContext.predicateContext(obj);
 
         for (Predicate predicate : predicates) {
             try {
-                if (!predicate.apply(ctx)) {
+                // a compiled filter is done with the context when it returns, other predicates may keep it
+                if (!predicate.apply(FilterCompiler.isCompiled(predicate) ? ctx : ctx.copy())) {
                     return false;
                 }
             } catch (InvalidPathException e) {
@@ -16,7 +16,7 @@ package com.jayway.jsonpath.internal.path;
 
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.Option;
-import com.jayway.jsonpath.PathNotFoundException;
+import com.jayway.jsonpath.internal.MissingPathException;
 import com.jayway.jsonpath.internal.PathRef;
 import com.jayway.jsonpath.internal.Utils;
 
@@ -59,20 +59,20 @@ class PropertyPathToken extends PathToken {
     }
 
     @Override
-    public void evaluate(String currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
+    public void evaluate(PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
         // Can't assert it in ctor because isLeaf() could be changed later on.
         assert onlyOneIsTrueNonThrow(singlePropertyCase(), multiPropertyMergeCase(), multiPropertyIterationCase());
 
         if (!ctx.jsonProvider().isMap(model)) {
             if (!isUpstreamDefinite()
-                    || ctx.options().contains(Option.SUPPRESS_EXCEPTIONS)) {
+                    || ctx.containsOption(Option.SUPPRESS_EXCEPTIONS)) {
                 return;
             } else {
                 String m = model == null ? "null" : model.getClass().getName();
-                throw new PathNotFoundException(String.format(
+                throw new MissingPathException(
                         "Expected to find an object with property %s in path %s but found '%s'. " +
                                 "This is not a json object according to the JsonProvider: '%s'.",
-                        getPathFragment(), currentPath, m, ctx.configuration().jsonProvider().getClass().getName()));
+                        getPathFragment(), currentPath, m, ctx.configuration().jsonProvider().getClass().getName());
             }
         }
 
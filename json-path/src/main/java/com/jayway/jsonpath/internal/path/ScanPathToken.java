@@ -18,34 +18,65 @@ import com.jayway.jsonpath.Option;
 import com.jayway.jsonpath.internal.PathRef;
 import com.jayway.jsonpath.spi.json.JsonProvider;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 /**
  *
  */
 public class ScanPathToken extends PathToken {
 
+    /**
+     * Arrays and objects with fewer children than this are always scanned on the calling thread
+     */
+    static final int PARALLEL_THRESHOLD = 512;
+
     ScanPathToken() {
     }
 
     @Override
-    public void evaluate(String currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
+    public void evaluate(PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
 
         PathToken pt = next();
 
-        walk(pt, currentPath, parent,  model, ctx, createScanPredicate(pt, ctx));
+        walk(pt, currentPath, parent,  model, ctx, createScanPredicate(pt, ctx), scanPool(ctx));
+    }
+
+    public static void walk(PathToken pt, PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx, Predicate predicate) {
+        walk(pt, currentPath, parent, model, ctx, predicate, null);
+    }
+
+    public static void walkArray(PathToken pt, PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx, Predicate predicate) {
+        walkArray(pt, currentPath, parent, model, ctx, predicate, null);
+    }
+
+    public static void walkObject(PathToken pt, PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx, Predicate predicate) {
+        walkObject(pt, currentPath, parent, model, ctx, predicate, null);
     }
 
-    public static void walk(PathToken pt, String currentPath, PathRef parent, Object model, EvaluationContextImpl ctx, Predicate predicate) {
+    private static void walk(PathToken pt, PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx, Predicate predicate, ForkJoinPool pool) {
         if (ctx.jsonProvider().isMap(model)) {
-            walkObject(pt, currentPath, parent, model, ctx, predicate);
+            walkObject(pt, currentPath, parent, model, ctx, predicate, pool);
         } else if (ctx.jsonProvider().isArray(model)) {
-            walkArray(pt, currentPath, parent, model, ctx, predicate);
+            walkArray(pt, currentPath, parent, model, ctx, predicate, pool);
         }
     }
 
-    public static void walkArray(PathToken pt, String currentPath, PathRef parent, Object model, EvaluationContextImpl ctx, Predicate predicate) {
+    /**
+     * Evaluates the token following the scan on a single node of the document, without walking its children
+     */
+    static void visit(PathToken pt, PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx, Predicate predicate) {
+        if (ctx.jsonProvider().isMap(model)) {
+            visitObject(pt, currentPath, parent, model, ctx, predicate);
+        } else if (ctx.jsonProvider().isArray(model)) {
+            visitArray(pt, currentPath, parent, model, ctx, predicate);
+        }
+    }
 
+    private static void visitArray(PathToken pt, PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx, Predicate predicate) {
         if (predicate.matches(model)) {
             if (pt.isLeaf()) {
                 pt.evaluate(currentPath, parent, model, ctx);
@@ -54,40 +85,183 @@ public class ScanPathToken extends PathToken {
                 Iterable<?> models = ctx.jsonProvider().toIterable(model);
                 int idx = 0;
                 for (Object evalModel : models) {
-                    String evalPath = currentPath + "[" + idx + "]";
-                    next.setUpstreamArrayIndex(idx);
+                    PathSegment evalPath = currentPath.index(idx);
+                    if (next.isLeaf()) {
+                        ctx.upstreamArrayIndex(next, idx);
+                    }
                     next.evaluate(evalPath, parent, evalModel, ctx);
                     idx++;
                 }
             }
         }
+    }
+
+    private static void visitObject(PathToken pt, PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx, Predicate predicate) {
+        if (predicate.matches(model)) {
+            pt.evaluate(currentPath, parent, model, ctx);
+        }
+    }
+
+    private static void walkArray(PathToken pt, PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx, Predicate predicate, ForkJoinPool pool) {
+
+        visitArray(pt, currentPath, parent, model, ctx, predicate);
+
+        if (pool != null && ctx.jsonProvider().length(model) >= PARALLEL_THRESHOLD) {
+            List<Object> children = new ArrayList<Object>();
+            for (Object evalModel : ctx.jsonProvider().toIterable(model)) {
+                children.add(evalModel);
+            }
+            walkParallel(pt, currentPath, null, children, ctx, pool);
+            return;
+        }
 
         Iterable<?> models = ctx.jsonProvider().toIterable(model);
         int idx = 0;
         for (Object evalModel : models) {
-            String evalPath = currentPath + "[" + idx + "]";
-            walk(pt, evalPath, PathRef.create(model, idx), evalModel, ctx, predicate);
+            PathSegment evalPath = currentPath.index(idx);
+            PathRef pathRef = ctx.forUpdate() ? PathRef.create(model, idx) : PathRef.NO_OP;
+            walk(pt, evalPath, pathRef, evalModel, ctx, predicate, pool);
             idx++;
         }
     }
 
-    public static void walkObject(PathToken pt, String currentPath, PathRef parent, Object model, EvaluationContextImpl ctx, Predicate predicate) {
+    private static void walkObject(final PathToken pt, final PathSegment currentPath, PathRef parent, final Object model, final EvaluationContextImpl ctx, final Predicate predicate, final ForkJoinPool pool) {
 
-        if (predicate.matches(model)) {
-            pt.evaluate(currentPath, parent, model, ctx);
+        visitObject(pt, currentPath, parent, model, ctx, predicate);
+
+        if (pool != null && ctx.jsonProvider().length(model) >= PARALLEL_THRESHOLD) {
+            final List<String> keys = new ArrayList<String>();
+            final List<Object> children = new ArrayList<Object>();
+            ctx.jsonProvider().forEachProperty(model, new JsonProvider.PropertyVisitor() {
+                @Override
+                public void visit(String property, Object propertyModel) {
+                    keys.add(property);
+                    children.add(propertyModel);
+                }
+            });
+            walkParallel(pt, currentPath, keys, children, ctx, pool);
+            return;
+        }
+
+        ctx.jsonProvider().forEachProperty(model, new JsonProvider.PropertyVisitor() {
+            @Override
+            public void visit(String property, Object propertyModel) {
+                if (propertyModel != JsonProvider.UNDEFINED) {
+                    PathSegment evalPath = currentPath.property(property);
+                    PathRef pathRef = ctx.forUpdate() ? PathRef.create(model, property) : PathRef.NO_OP;
+                    walk(pt, evalPath, pathRef, propertyModel, ctx, predicate, pool);
+                }
+            }
+        });
+    }
+
+    /**
+     * Walks the children of an array, or of an object if keys are given, in chunks on the scan pool. Every chunk
+     * collects its results in a fork of the context, the forks are merged in document order so the result, and what
+     * the evaluation listeners see, is the same as if the children were walked one by one. Each chunk is merged as
+     * soon as it and the chunks before it are done, when a listener aborts the evaluation the remaining chunks are
+     * cancelled.
+     */
+    private static void walkParallel(PathToken pt, PathSegment currentPath, List<String> keys, List<Object> children, EvaluationContextImpl ctx, ForkJoinPool pool) {
+        int chunkSize = Math.max(PARALLEL_THRESHOLD, (children.size() + pool.getParallelism() * 4 - 1) / (pool.getParallelism() * 4));
+        List<ScanTask> tasks = new ArrayList<ScanTask>();
+        for (int from = 0; from < children.size(); from += chunkSize) {
+            tasks.add(new ScanTask(pt, currentPath, keys, children, from, Math.min(from + chunkSize, children.size()), ctx.fork(), pool));
         }
-        Collection<String> properties = ctx.jsonProvider().getPropertyKeys(model);
 
-        for (String property : properties) {
-            String evalPath = currentPath + "['" + property + "']";
-            Object propertyModel = ctx.jsonProvider().getMapValue(model, property);
-            if (propertyModel != JsonProvider.UNDEFINED) {
-                walk(pt, evalPath, PathRef.create(model, property), propertyModel, ctx, predicate);
+        boolean inPool = ForkJoinTask.getPool() == pool;
+        for (ScanTask task : tasks) {
+            if (inPool) {
+                task.fork();
+            } else {
+                pool.execute(task);
+            }
+        }
+
+        try {
+            for (ScanTask task : tasks) {
+                task.join();
+                ctx.merge(task.ctx);
+                if (task.failure != null) {
+                    throw task.failure;
+                }
+            }
+        } finally {
+            // only has an effect on the chunks that are not done when the evaluation is aborted or fails
+            for (ScanTask task : tasks) {
+                task.cancel(false);
             }
         }
     }
 
-    private static Predicate createScanPredicate(final PathToken target, final EvaluationContextImpl ctx) {
+    /**
+     * Returns the pool to scan on, or null if the scan has to run on the calling thread. Scans for update are
+     * sequential, as are paths where a scan is followed by a token that depends on the order the scan visits nodes in.
+     */
+    private ForkJoinPool scanPool(EvaluationContextImpl ctx) {
+        ForkJoinPool pool = ctx.configuration().scanPool();
+        if (pool == null || ctx.forUpdate()) {
+            return null;
+        }
+        PathToken token = ctx.getRoot();
+        while (token != null) {
+            if (token instanceof FunctionPathToken) {
+                return null;
+            }
+            if (token instanceof ScanPathToken && !token.isLeaf()) {
+                // a scan keeps track of the array index it has reached for any other token
+                PathToken next = token.next();
+                if (!next.isLeaf() && !(next instanceof PropertyPathToken)) {
+                    return null;
+                }
+            }
+            token = token.isLeaf() ? null : token.next();
+        }
+        return pool;
+    }
+
+    private static final class ScanTask extends RecursiveAction {
+        private final PathToken pt;
+        private final PathSegment currentPath;
+        private final List<String> keys;
+        private final List<Object> children;
+        private final int from;
+        private final int to;
+        private final EvaluationContextImpl ctx;
+        private final ForkJoinPool pool;
+        private RuntimeException failure;
+
+        private ScanTask(PathToken pt, PathSegment currentPath, List<String> keys, List<Object> children, int from, int to, EvaluationContextImpl ctx, ForkJoinPool pool) {
+            this.pt = pt;
+            this.currentPath = currentPath;
+            this.keys = keys;
+            this.children = children;
+            this.from = from;
+            this.to = to;
+            this.ctx = ctx;
+            this.pool = pool;
+        }
+
+        @Override
+        protected void compute() {
+            // predicates may cache evaluated paths in the context, each chunk needs its own
+            Predicate predicate = createScanPredicate(pt, ctx);
+            try {
+                for (int i = from; i < to && !isCancelled(); i++) {
+                    Object child = children.get(i);
+                    if (keys == null) {
+                        walk(pt, currentPath.index(i), PathRef.NO_OP, child, ctx, predicate, pool);
+                    } else if (child != JsonProvider.UNDEFINED) {
+                        walk(pt, currentPath.property(keys.get(i)), PathRef.NO_OP, child, ctx, predicate, pool);
+                    }
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+    }
+
+    static Predicate createScanPredicate(final PathToken target, final EvaluationContextImpl ctx) {
         if (target instanceof PropertyPathToken) {
             return new PropertyPathTokenPredicate(target, ctx);
         } else if (target instanceof ArrayPathToken) {
@@ -112,7 +286,7 @@ public class ScanPathToken extends PathToken {
         return "..";
     }
 
-    private interface Predicate {
+    interface Predicate {
         boolean matches(Object model);
     }
 
@@ -195,13 +369,17 @@ public class ScanPathToken extends PathToken {
                 return true;
             }
 
-            if (propertyPathToken.isLeaf() && ctx.options().contains(Option.DEFAULT_PATH_LEAF_TO_NULL)) {
+            if (propertyPathToken.isLeaf() && ctx.containsOption(Option.DEFAULT_PATH_LEAF_TO_NULL)) {
                 // In case of DEFAULT_PATH_LEAF_TO_NULL missing properties is not a problem.
                 return true;
             }
 
-            Collection<String> keys = ctx.jsonProvider().getPropertyKeys(model);
-            return keys.containsAll(propertyPathToken.getProperties());
+            for (String property : propertyPathToken.getProperties()) {
+                if (!ctx.jsonProvider().containsKey(model, property)) {
+                    return false;
+                }
+            }
+            return true;
         }
     }
 }
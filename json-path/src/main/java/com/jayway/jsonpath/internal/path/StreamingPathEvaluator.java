@@ -0,0 +1,338 @@
+/*
+ * Copyright 2011 the original author or authors.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jayway.jsonpath.internal.path;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.InvalidJsonException;
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.PathNotFoundException;
+import com.jayway.jsonpath.internal.EvaluationAbortException;
+import com.jayway.jsonpath.internal.PathRef;
+import com.jayway.jsonpath.spi.json.JsonProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+
+/**
+ * Evaluates a path against a json input stream without building the document.
+ *
+ * The stream is read token by token with a Jackson {@link JsonParser}. Subtrees that can not match the path are
+ * skipped, only the values that do match are handed to the {@link JsonProvider} of the configuration, so memory use is
+ * bound by the nesting depth of the document and the size of the results. A definite path stops reading as soon as its
+ * value has been found.
+ *
+ * The stream must hold a single json document, NDJSON and other sequences of documents are not supported. Content after
+ * the document is rejected when it is read, which it is not when a definite path stops reading at its value.
+ *
+ * Only paths made of single properties, wildcards, ascending non negative array indexes and slices that do not depend
+ * on the array length can be evaluated this way, see {@link CompiledPath#isStreamable()}. Jackson is an optional
+ * dependency, this class must only be loaded once {@link CompiledPath} has checked that it is on the class path.
+ */
+class StreamingPathEvaluator {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // whether the scalars of a json provider are plain java values, by provider class
+    private static final ConcurrentHashMap<Class<?>, Boolean> JAVA_SCALARS = new ConcurrentHashMap<Class<?>, Boolean>();
+
+    private final CompiledPath path;
+    private final EvaluationContextImpl ctx;
+    private final JsonProvider jsonProvider;
+    private final boolean suppressExceptions;
+    private final boolean requireProperties;
+    private final boolean leafToNull;
+    private final boolean javaScalars;
+    private final StringBuilder buffer = new StringBuilder();
+
+    private StreamingPathEvaluator(CompiledPath path, EvaluationContextImpl ctx) {
+        this.path = path;
+        this.ctx = ctx;
+        this.jsonProvider = ctx.jsonProvider();
+        this.suppressExceptions = ctx.containsOption(Option.SUPPRESS_EXCEPTIONS);
+        this.requireProperties = ctx.containsOption(Option.REQUIRE_PROPERTIES);
+        this.leafToNull = ctx.containsOption(Option.DEFAULT_PATH_LEAF_TO_NULL);
+        this.javaScalars = hasJavaScalars(jsonProvider);
+    }
+
+    static EvaluationContextImpl evaluate(CompiledPath path, InputStream jsonInputStream, Configuration configuration) throws IOException {
+        // there is no document to refer to, the stream stands in as the root
+        EvaluationContextImpl ctx = new EvaluationContextImpl(path, jsonInputStream, configuration, false);
+        JsonParser parser = JSON_FACTORY.createParser(jsonInputStream);
+        try {
+            if (parser.nextToken() == null) {
+                throw new InvalidJsonException("Json input stream is empty");
+            }
+            RootPathToken root = path.getRoot();
+            new StreamingPathEvaluator(path, ctx).match(root.isLeaf() ? null : root.next(), PathSegment.root("$"), parser);
+            if (parser.nextToken() != null) {
+                throw new InvalidJsonException(format("Unexpected %s after the json document, the stream must hold a single document", parser.currentToken()));
+            }
+        } catch (EvaluationAbortException abort) {
+        } catch (JsonParseException e) {
+            throw new InvalidJsonException(e);
+        } finally {
+            parser.close();
+        }
+        return ctx;
+    }
+
+    /**
+     * Matches the value the parser is positioned on against the given token. When this method returns the parser is
+     * positioned on the last token of the value.
+     */
+    private void match(PathToken token, PathSegment currentPath, JsonParser parser) throws IOException {
+        if (token == null) {
+            addResult(currentPath, readValue(parser));
+        } else if (token instanceof PropertyPathToken) {
+            matchProperty((PropertyPathToken) token, currentPath, parser);
+        } else if (token instanceof WildcardPathToken) {
+            matchWildcard(token, currentPath, parser);
+        } else if (token instanceof ArrayIndexToken) {
+            List<Integer> indexes = ((ArrayIndexToken) token).operation().indexes();
+            matchIndexes(token, currentPath, parser, indexes, 0, Integer.MAX_VALUE);
+        } else {
+            ArraySliceOperation operation = ((ArraySliceToken) token).operation();
+            int from = operation.operation() == ArraySliceOperation.Operation.SLICE_TO ? 0 : operation.from();
+            int to = operation.operation() == ArraySliceOperation.Operation.SLICE_FROM ? Integer.MAX_VALUE : operation.to();
+            matchIndexes(token, currentPath, parser, null, from, to);
+        }
+    }
+
+    private void matchProperty(PropertyPathToken token, PathSegment currentPath, JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            if (!token.isUpstreamDefinite() || suppressExceptions) {
+                parser.skipChildren();
+                return;
+            }
+            // only read on failure, so that the message is the same as when evaluating a document
+            Object model = readValue(parser);
+            String m = model == null ? "null" : model.getClass().getName();
+            throw new PathNotFoundException(format(
+                    "Expected to find an object with property %s in path %s but found '%s'. " +
+                            "This is not a json object according to the JsonProvider: '%s'.",
+                    token.getPathFragment(), currentPath, m, jsonProvider.getClass().getName()));
+        }
+        String property = token.getProperties().get(0);
+        PathToken next = token.isLeaf() ? null : token.next();
+        boolean found = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (!found && property.equals(name)) {
+                found = true;
+                match(next, currentPath.property(property), parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (!found) {
+            PathSegment evalPath = currentPath.property(property);
+            if (token.isLeaf()) {
+                if (leafToNull) {
+                    addResult(evalPath, null);
+                } else if (!suppressExceptions && requireProperties) {
+                    throw new PathNotFoundException("No results for path: " + evalPath);
+                }
+            } else if ((token.isUpstreamDefinite() || requireProperties) && !suppressExceptions) {
+                throw new PathNotFoundException("Missing property in path " + evalPath);
+            }
+        }
+    }
+
+    private void matchWildcard(PathToken token, PathSegment currentPath, JsonParser parser) throws IOException {
+        PathToken next = token.isLeaf() ? null : token.next();
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                match(next, currentPath.property(name), parser);
+            }
+        } else if (parser.currentToken() == JsonToken.START_ARRAY) {
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                match(next, currentPath.index(index++), parser);
+            }
+        }
+    }
+
+    /**
+     * Matches the elements of an array either against a list of ascending indexes or, when the list is null, against
+     * the range [from, to).
+     */
+    private void matchIndexes(PathToken token, PathSegment currentPath, JsonParser parser,
+                              List<Integer> indexes, int from, int to) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            if (!token.isUpstreamDefinite() || suppressExceptions) {
+                parser.skipChildren();
+                return;
+            }
+            if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                throw new PathNotFoundException("The path " + currentPath + " is null");
+            }
+            throw new PathNotFoundException(format("Filter: %s can only be applied to arrays. Current context is: %s",
+                    token.toString(), readValue(parser)));
+        }
+        PathToken next = token.isLeaf() ? null : token.next();
+        int nextIndex = 0;
+        int index = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            boolean selected;
+            if (indexes != null) {
+                selected = nextIndex < indexes.size() && indexes.get(nextIndex) == index;
+                if (selected) {
+                    nextIndex++;
+                }
+            } else {
+                selected = index >= from && index < to;
+            }
+            if (selected) {
+                match(next, currentPath.index(index), parser);
+            } else {
+                parser.skipChildren();
+            }
+            index++;
+        }
+    }
+
+    private void addResult(PathSegment currentPath, Object value) {
+        ctx.addResult(currentPath, PathRef.NO_OP, value);
+        if (path.isDefinite()) {
+            // a definite path has a single result, the rest of the stream is of no interest
+            throw new EvaluationAbortException();
+        }
+    }
+
+    /**
+     * Reads the value the parser is positioned on. Strings, booleans, null and integers that fit a long are taken from
+     * the parser when the json provider represents them as plain java values. Any other value is copied as is and
+     * parsed by the json provider, wrapped in an array so that providers that only accept objects and arrays at the
+     * top level can parse scalars too.
+     */
+    private Object readValue(JsonParser parser) throws IOException {
+        if (javaScalars) {
+            switch (parser.currentToken()) {
+                case VALUE_STRING:
+                    return parser.getText();
+                case VALUE_TRUE:
+                    return Boolean.TRUE;
+                case VALUE_FALSE:
+                    return Boolean.FALSE;
+                case VALUE_NULL:
+                    return null;
+                case VALUE_NUMBER_INT:
+                    JsonParser.NumberType numberType = parser.getNumberType();
+                    if (numberType == JsonParser.NumberType.INT) {
+                        return parser.getIntValue();
+                    } else if (numberType == JsonParser.NumberType.LONG) {
+                        return parser.getLongValue();
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        buffer.setLength(0);
+        buffer.append('[');
+        copy(parser, buffer);
+        buffer.append(']');
+        return jsonProvider.getArrayIndex(jsonProvider.parse(buffer.toString()), 0);
+    }
+
+    /**
+     * Checks, once per provider class, that the provider parses strings, booleans, null and integers to the java values
+     * the parser gives, so that they do not have to be parsed by the provider.
+     */
+    private static boolean hasJavaScalars(JsonProvider jsonProvider) {
+        Boolean javaScalars = JAVA_SCALARS.get(jsonProvider.getClass());
+        if (javaScalars == null) {
+            try {
+                Object probe = jsonProvider.parse("[\"s\",true,false,null,1,10000000000]");
+                javaScalars = "s".equals(jsonProvider.getArrayIndex(probe, 0))
+                        && Boolean.TRUE.equals(jsonProvider.getArrayIndex(probe, 1))
+                        && Boolean.FALSE.equals(jsonProvider.getArrayIndex(probe, 2))
+                        && jsonProvider.getArrayIndex(probe, 3) == null
+                        && Integer.valueOf(1).equals(jsonProvider.getArrayIndex(probe, 4))
+                        && Long.valueOf(10000000000L).equals(jsonProvider.getArrayIndex(probe, 5));
+            } catch (RuntimeException e) {
+                javaScalars = false;
+            }
+            JAVA_SCALARS.put(jsonProvider.getClass(), javaScalars);
+        }
+        return javaScalars;
+    }
+
+    private static void copy(JsonParser parser, StringBuilder sb) throws IOException {
+        int depth = 0;
+        JsonToken token = parser.currentToken();
+        while (true) {
+            switch (token) {
+                case START_OBJECT:
+                    sb.append('{');
+                    depth++;
+                    break;
+                case START_ARRAY:
+                    sb.append('[');
+                    depth++;
+                    break;
+                case END_OBJECT:
+                    sb.append('}');
+                    depth--;
+                    break;
+                case END_ARRAY:
+                    sb.append(']');
+                    depth--;
+                    break;
+                case FIELD_NAME:
+                    appendString(parser.currentName(), sb);
+                    sb.append(':');
+                    break;
+                case VALUE_STRING:
+                    appendString(parser.getText(), sb);
+                    break;
+                default:
+                    // numbers keep their original text, literals are written as is
+                    sb.append(parser.getText());
+                    break;
+            }
+            if (depth == 0) {
+                return;
+            }
+            token = parser.nextToken();
+            if (token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && !isAfterOpening(sb)) {
+                sb.append(',');
+            }
+        }
+    }
+
+    private static boolean isAfterOpening(StringBuilder sb) {
+        char last = sb.charAt(sb.length() - 1);
+        return last == '{' || last == '[' || last == ':';
+    }
+
+    private static void appendString(String value, StringBuilder sb) {
+        sb.append('"');
+        JsonStringEncoder.getInstance().quoteAsString(value, sb);
+        sb.append('"');
+    }
+}
@@ -14,11 +14,10 @@
  */
 package com.jayway.jsonpath.internal.path;
 
-import java.util.Collections;
-
 import com.jayway.jsonpath.Option;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.internal.PathRef;
+import com.jayway.jsonpath.spi.json.JsonProvider;
 
 import static java.util.Arrays.asList;
 
@@ -31,17 +30,20 @@ public class WildcardPathToken extends PathToken {
     }
 
     @Override
-    public void evaluate(String currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
+    public void evaluate(final PathSegment currentPath, PathRef parent, final Object model, final EvaluationContextImpl ctx) {
         if (ctx.jsonProvider().isMap(model)) {
-            for (String property : ctx.jsonProvider().getPropertyKeys(model)) {
-                handleObjectProperty(currentPath, model, ctx, Collections.singletonList(property));
-            }
+            ctx.jsonProvider().forEachProperty(model, new JsonProvider.PropertyVisitor() {
+                @Override
+                public void visit(String property, Object value) {
+                    handleObjectProperty(currentPath, model, ctx, property, value);
+                }
+            });
         } else if (ctx.jsonProvider().isArray(model)) {
             for (int idx = 0; idx < ctx.jsonProvider().length(model); idx++) {
                 try {
                     handleArrayIndex(idx, currentPath, model, ctx);
                 } catch (PathNotFoundException p){
-                    if(ctx.options().contains(Option.REQUIRE_PROPERTIES)){
+                    if(ctx.containsOption(Option.REQUIRE_PROPERTIES)){
                         throw p;
                     }
                 }
@@ -8,6 +8,13 @@ import static com.jayway.jsonpath.internal.Utils.notNull;
 
 public class CacheProvider {
 
+    /**
+     * System property used to size the default cache. A size of 0 disables caching.
+     */
+    public static final String CACHE_SIZE_PROPERTY = "jsonpath.cache.size";
+
+    private static final int DEFAULT_CACHE_SIZE = 400;
+
     private static final AtomicReferenceFieldUpdater<CacheProvider, Cache> UPDATER =
         AtomicReferenceFieldUpdater.newUpdater(CacheProvider.class, Cache.class, "cache");
     private static final CacheProvider instance = new CacheProvider();
@@ -20,7 +27,7 @@ public class CacheProvider {
             Cache cache = CacheProvider.instance.cache;
             // the application is trying to use the cache
             // and if no external implementation has been registered,
-            // we need to initialise it to the default LRUCache
+            // we need to initialise it to the default ConcurrentLRUCache
             if (cache == null) {
                 cache = getDefaultCache();
                 // on the off chance that the cache implementation was registered during
@@ -47,7 +54,25 @@ public class CacheProvider {
 
 
     private static Cache getDefaultCache(){
-        return new LRUCache(400);
-        //return new NOOPCache();
+        int size = getDefaultCacheSize();
+        if (size == 0) {
+            return new NOOPCache();
+        }
+        return new ConcurrentLRUCache(size);
+    }
+
+    // the value is read while initialising the cache holder, an invalid value must not break class initialisation
+    static int getDefaultCacheSize() {
+        String value = System.getProperty(CACHE_SIZE_PROPERTY);
+        if (value != null) {
+            try {
+                int size = Integer.parseInt(value.trim());
+                if (size >= 0) {
+                    return size;
+                }
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return DEFAULT_CACHE_SIZE;
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2011 the original author or authors.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jayway.jsonpath.spi.cache;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.internal.ClockCache;
+
+/**
+ * A bounded cache with lock free reads and an approximate LRU eviction policy.
+ *
+ * Entries live in a {@link java.util.concurrent.ConcurrentHashMap}. A hit only sets a "referenced" flag on the
+ * entry, so reads never block and never reorder a shared structure. When the cache grows past its limit the writer
+ * that pushed it over runs the CLOCK (second chance) algorithm, see {@link ClockCache}.
+ */
+public class ConcurrentLRUCache implements Cache {
+
+    private final ClockCache<JsonPath> cache;
+
+    public ConcurrentLRUCache(int limit) {
+        this.cache = new ClockCache<JsonPath>(limit);
+    }
+
+    @Override
+    public JsonPath get(String key) {
+        return cache.get(key);
+    }
+
+    @Override
+    public void put(String key, JsonPath value) {
+        cache.put(key, value);
+    }
+
+    public JsonPath getSilent(String key) {
+        return cache.getSilent(key);
+    }
+
+    public void remove(String key) {
+        cache.remove(key);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public int limit() {
+        return cache.limit();
+    }
+
+    /**
+     * @return the number of lookups that found a cached path
+     */
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    /**
+     * @return the number of lookups that did not find a cached path
+     */
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    /**
+     * @return the number of paths removed to keep the cache within its limit
+     */
+    public long evictionCount() {
+        return cache.evictionCount();
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentLRUCache{size=" + size() + ", limit=" + limit() + ", hits=" + hitCount()
+                + ", misses=" + missCount() + ", evictions=" + evictionCount() + "}";
+    }
+}
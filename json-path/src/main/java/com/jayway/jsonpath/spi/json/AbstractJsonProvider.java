@@ -16,7 +16,9 @@ package com.jayway.jsonpath.spi.json;
 
 import com.jayway.jsonpath.JsonPathException;
 
+import java.util.AbstractMap;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -71,10 +73,11 @@ public abstract class AbstractJsonProvider implements JsonProvider {
      */
     public Object getMapValue(Object obj, String key){
         Map m = (Map) obj;
-        if(!m.containsKey(key)){
+        Object value = m.get(key);
+        if(value == null && !m.containsKey(key)){
             return JsonProvider.UNDEFINED;
         } else {
-            return m.get(key);
+            return value;
         }
     }
 
@@ -139,6 +142,100 @@ public abstract class AbstractJsonProvider implements JsonProvider {
         }
     }
 
+    /**
+     * Checks if the given object has a property with the given key
+     *
+     * @param obj an object
+     * @param key property key
+     * @return true if the object has the property
+     */
+    public boolean containsKey(Object obj, String key) {
+        if (obj instanceof Map) {
+            return ((Map) obj).containsKey(key);
+        }
+        return getPropertyKeys(obj).contains(key);
+    }
+
+    /**
+     * Returns the properties of the given object with their values. The entries of a map are returned as they are,
+     * the values of other objects are read with {@link #getMapValue(Object, String)} while they are iterated over.
+     *
+     * @param obj an object
+     * @return the keys and values of an object
+     */
+    @SuppressWarnings("unchecked")
+    public Iterable<Map.Entry<String, Object>> getPropertyEntries(final Object obj) {
+        if (obj instanceof Map) {
+            return ((Map<String, Object>) obj).entrySet();
+        }
+        final Collection<String> keys = getPropertyKeys(obj);
+        return new Iterable<Map.Entry<String, Object>>() {
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                final Iterator<String> iterator = keys.iterator();
+                return new Iterator<Map.Entry<String, Object>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<String, Object> next() {
+                        String key = iterator.next();
+                        return new AbstractMap.SimpleImmutableEntry<String, Object>(key, getMapValue(obj, key));
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Hands every property of the given object with its value to the visitor. The entries of a map are visited as
+     * they are, the values of other objects are read with {@link #getMapValue(Object, String)}.
+     *
+     * @param obj     an object
+     * @param visitor the visitor to call for each property
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachProperty(Object obj, PropertyVisitor visitor) {
+        if (obj instanceof Map) {
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) obj).entrySet()) {
+                visitor.visit(entry.getKey(), entry.getValue());
+            }
+        } else {
+            for (String key : getPropertyKeys(obj)) {
+                visitor.visit(key, getMapValue(obj, key));
+            }
+        }
+    }
+
+    /**
+     * Returns the given entries with their values unwrapped, for providers whose objects hold wrapped values
+     *
+     * @param entries the entries of an object
+     * @return the entries with the values {@link #unwrap(Object)} returns
+     */
+    protected Iterable<Map.Entry<String, Object>> unwrapEntries(final Iterable<? extends Map.Entry<String, ?>> entries) {
+        return new Iterable<Map.Entry<String, Object>>() {
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                final Iterator<? extends Map.Entry<String, ?>> iterator = entries.iterator();
+                return new Iterator<Map.Entry<String, Object>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<String, Object> next() {
+                        Map.Entry<String, ?> entry = iterator.next();
+                        return new AbstractMap.SimpleImmutableEntry<String, Object>(entry.getKey(), unwrap(entry.getValue()));
+                    }
+                };
+            }
+        };
+    }
+
     /**
      * Get the length of an array or object
      *
@@ -233,6 +233,23 @@ public class GsonJsonProvider extends AbstractJsonProvider {
         return keys;
     }
 
+    @Override
+    public boolean containsKey(final Object obj, final String key) {
+        return toJsonObject(obj).has(key);
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, Object>> getPropertyEntries(final Object obj) {
+        return unwrapEntries(toJsonObject(obj).entrySet());
+    }
+
+    @Override
+    public void forEachProperty(final Object obj, final PropertyVisitor visitor) {
+        for (Map.Entry<String, JsonElement> entry : toJsonObject(obj).entrySet()) {
+            visitor.visit(entry.getKey(), unwrap(entry.getValue()));
+        }
+    }
+
     @Override
     public int length(final Object obj) {
         if (isArray(obj)) {
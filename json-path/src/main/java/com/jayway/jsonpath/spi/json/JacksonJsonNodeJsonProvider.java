@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.JsonPathException;
 import java.io.IOException;
@@ -13,11 +14,13 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 
 public class JacksonJsonNodeJsonProvider extends AbstractJsonProvider {
@@ -65,6 +68,18 @@ public class JacksonJsonNodeJsonProvider extends AbstractJsonProvider {
         }
     }
 
+    @Override
+    public Object parse(ByteBuffer json) throws InvalidJsonException {
+        try {
+            if (json.hasArray()) {
+                return objectMapper.readTree(json.array(), json.arrayOffset() + json.position(), json.remaining());
+            }
+            return objectMapper.readTree(new ByteBufferBackedInputStream(json.duplicate()));
+        } catch (IOException e) {
+            throw new InvalidJsonException(e);
+        }
+    }
+
     @Override
     public Object parse(InputStream jsonStream, String charset) throws InvalidJsonException {
         try {
@@ -210,6 +225,32 @@ public class JacksonJsonNodeJsonProvider extends AbstractJsonProvider {
         return keys;
     }
 
+    @Override
+    public boolean containsKey(Object obj, String key) {
+        return toJsonObject(obj).has(key);
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, Object>> getPropertyEntries(Object obj) {
+        final ObjectNode jsonObject = toJsonObject(obj);
+        return new Iterable<Map.Entry<String, Object>>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                return (Iterator) jsonObject.fields();
+            }
+        };
+    }
+
+    @Override
+    public void forEachProperty(Object obj, PropertyVisitor visitor) {
+        Iterator<Map.Entry<String, JsonNode>> fields = toJsonObject(obj).fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            visitor.visit(field.getKey(), field.getValue());
+        }
+    }
+
     @Override
     public int length(Object obj) {
         if (isArray(obj)) {
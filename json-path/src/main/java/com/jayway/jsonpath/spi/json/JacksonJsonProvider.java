@@ -17,11 +17,13 @@ package com.jayway.jsonpath.spi.json;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.jayway.jsonpath.InvalidJsonException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.StringWriter;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -84,6 +86,18 @@ public class JacksonJsonProvider extends AbstractJsonProvider {
         }
     }
 
+    @Override
+    public Object parse(ByteBuffer json) throws InvalidJsonException {
+        try {
+            if (json.hasArray()) {
+                return objectReader.readValue(json.array(), json.arrayOffset() + json.position(), json.remaining());
+            }
+            return objectReader.readValue(new ByteBufferBackedInputStream(json.duplicate()));
+        } catch (IOException e) {
+            throw new InvalidJsonException(e);
+        }
+    }
+
     @Override
     public Object parse(InputStream jsonStream, String charset) throws InvalidJsonException {
         try {
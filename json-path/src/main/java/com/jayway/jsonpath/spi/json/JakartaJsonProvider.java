@@ -23,6 +23,8 @@ import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.util.AbstractCollection;
+import java.util.AbstractList;
 import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -32,6 +34,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.RandomAccess;
 import java.util.Map;
 import java.util.Set;
 
@@ -259,6 +262,44 @@ public class JakartaJsonProvider extends AbstractJsonProvider {
         return new ArrayList<String>(keys);
     }
 
+    @Override
+    public boolean containsKey(Object obj, String key) {
+        if (obj instanceof JsonObjectBuilder) {
+            obj = ((JsonObjectBuilder) obj).build();
+        }
+        if (obj instanceof JsonObject) {
+            return ((JsonObject) obj).containsKey(key);
+        } else {
+            throw new UnsupportedOperationException("Json object is expected");
+        }
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, Object>> getPropertyEntries(Object obj) {
+        if (obj instanceof JsonObjectBuilder) {
+            obj = ((JsonObjectBuilder) obj).build();
+        }
+        if (obj instanceof JsonObject) {
+            return unwrapEntries(((JsonObject) obj).entrySet());
+        } else {
+            throw new UnsupportedOperationException("Json object is expected");
+        }
+    }
+
+    @Override
+    public void forEachProperty(Object obj, PropertyVisitor visitor) {
+        if (obj instanceof JsonObjectBuilder) {
+            obj = ((JsonObjectBuilder) obj).build();
+        }
+        if (obj instanceof JsonObject) {
+            for (Map.Entry<String, JsonValue> entry : ((JsonObject) obj).entrySet()) {
+                visitor.visit(entry.getKey(), unwrap(entry.getValue()));
+            }
+        } else {
+            throw new UnsupportedOperationException("Json object is expected");
+        }
+    }
+
     @Override
     public int length(Object obj) {
         if (isArray(obj)) {
@@ -283,27 +324,19 @@ public class JakartaJsonProvider extends AbstractJsonProvider {
 
     @Override
     public Iterable<?> toIterable(Object obj) {
-        List<Object> values;
         if (isArray(obj)) {
             if (obj instanceof JsonArrayBuilder) {
                 obj = ((JsonArrayBuilder) obj).build();
             }
-            values = new ArrayList<Object>(((List<?>) obj).size());
-            for (Object val : ((List<?>) obj)) {
-                values.add(unwrap(val));
-            }
+            return new UnwrappingList((List<?>) obj);
         } else if (isMap(obj)) {
             if (obj instanceof JsonObjectBuilder) {
                 obj = ((JsonObjectBuilder) obj).build();
             }
-            values = new ArrayList<Object>(((JsonObject) obj).size());
-            for (JsonValue val : ((JsonObject) obj).values()) {
-                values.add(unwrap(val));
-            }
+            return new UnwrappingCollection(((JsonObject) obj).values());
         } else {
             throw new UnsupportedOperationException("an array or object instance is expected");
         }
-        return values;
     }
 
     @Override
@@ -456,6 +489,62 @@ public class JakartaJsonProvider extends AbstractJsonProvider {
     	}
     }
 
+    /**
+     * A list of the unwrapped values of a json array or list, the values are unwrapped when they are read. It is only
+     * used to iterate, {@link #unwrap(Object)} copies the values into a list that can be changed.
+     */
+    private class UnwrappingList extends AbstractList<Object> implements RandomAccess {
+
+        private final List<?> values;
+
+        private UnwrappingList(List<?> values) {
+            this.values = values;
+        }
+
+        @Override
+        public Object get(int index) {
+            return unwrap(values.get(index));
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+    }
+
+    /**
+     * A collection of the unwrapped values of a json object, the values are unwrapped when they are iterated
+     */
+    private class UnwrappingCollection extends AbstractCollection<Object> {
+
+        private final Collection<JsonValue> values;
+
+        private UnwrappingCollection(Collection<JsonValue> values) {
+            this.values = values;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            final Iterator<JsonValue> iterator = values.iterator();
+            return new Iterator<Object>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Object next() {
+                    return unwrap(iterator.next());
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+    }
+
     private static class JsonArrayProxy implements JsonArray {
 
     	private JsonArray arr;
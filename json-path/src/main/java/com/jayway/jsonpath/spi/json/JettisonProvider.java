@@ -371,6 +371,23 @@ public class JettisonProvider extends AbstractJsonProvider
 		}
 	}
 	
+	@Override
+	public boolean containsKey(Object obj, String key)
+	{
+		return ((org.codehaus.jettison.json.JSONObject)obj).has(key);
+	}
+	
+	@Override
+	public void forEachProperty(Object obj, PropertyVisitor visitor)
+	{
+		Iterator<?> keysIt = ((org.codehaus.jettison.json.JSONObject)obj).keys();
+		while (keysIt.hasNext())
+		{
+			String key = String.valueOf(keysIt.next());
+			visitor.visit(key, getMapValue(obj, key));
+		}
+	}
+	
 	@Override 
 	public Object getMapValue(Object obj, String key)
 	{
@@ -14,7 +14,6 @@ import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 
 public class JsonOrgJsonProvider extends AbstractJsonProvider {
 
@@ -104,6 +103,11 @@ public class JsonOrgJsonProvider extends AbstractJsonProvider {
         }
     }
 
+    @Override
+    public boolean containsKey(Object obj, String key) {
+        return toJsonObject(obj).has(key);
+    }
+
     @Override
     public void setProperty(Object obj, Object key, Object value) {
         try {
@@ -149,7 +153,7 @@ public class JsonOrgJsonProvider extends AbstractJsonProvider {
     public Collection<String> getPropertyKeys(Object obj) {
         JSONObject jsonObject = toJsonObject(obj);
         try {
-            if(Objects.isNull(jsonObject.names()))
+            if(jsonObject.length() == 0)
                 return new ArrayList<>();
             return jsonObject.keySet();
         } catch (JSONException e) {
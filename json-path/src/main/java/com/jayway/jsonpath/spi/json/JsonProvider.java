@@ -16,14 +16,31 @@ package com.jayway.jsonpath.spi.json;
 
 import com.jayway.jsonpath.InvalidJsonException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 
 public interface JsonProvider {
 
     static final Object UNDEFINED = new Object();
 
+    /**
+     * Receives the properties of an object, see {@link #forEachProperty(Object, PropertyVisitor)}
+     */
+    interface PropertyVisitor {
+
+        /**
+         * @param key   property key
+         * @param value the value {@link #getMapValue(Object, String)} returns for the key
+         */
+        void visit(String key, Object value);
+    }
+
     /**
      * Parse the given json string
      * @param json json string to parse
@@ -41,6 +58,23 @@ public interface JsonProvider {
     default Object parse(byte[] json) throws InvalidJsonException {
         return parse(new String(json, StandardCharsets.UTF_8));
     }
+
+    /**
+     * Parse the remaining json bytes of the given buffer in UTF-8 encoding, the position of the buffer is not changed.
+     * Providers that can read a buffer, like a memory mapped file, without copying it should override this method.
+     * @param json json bytes to parse
+     * @return Object representation of json
+     * @throws InvalidJsonException
+     */
+    default Object parse(ByteBuffer json) throws InvalidJsonException {
+        if (json.hasArray() && json.arrayOffset() == 0 && json.position() == 0 && json.remaining() == json.array().length) {
+            return parse(json.array());
+        }
+        byte[] bytes = new byte[json.remaining()];
+        json.duplicate().get(bytes);
+        return parse(bytes);
+    }
+
     /**
      * Parse the given json string
      * @param jsonStream input stream to parse
@@ -102,6 +136,46 @@ public interface JsonProvider {
      */
     Collection<String> getPropertyKeys(Object obj);
 
+    /**
+     * Checks if the given object has a property with the given key
+     *
+     * @param obj an object
+     * @param key property key
+     * @return true if {@link #getMapValue(Object, String)} finds a value for the key
+     */
+    default boolean containsKey(Object obj, String key) {
+        return getPropertyKeys(obj).contains(key);
+    }
+
+    /**
+     * Returns the properties of the given object with their values, the values are the ones
+     * {@link #getMapValue(Object, String)} returns
+     *
+     * @param obj an object
+     * @return the keys and values of an object
+     */
+    default Iterable<Map.Entry<String, Object>> getPropertyEntries(Object obj) {
+        Collection<String> keys = getPropertyKeys(obj);
+        List<Map.Entry<String, Object>> entries = new ArrayList<Map.Entry<String, Object>>(keys.size());
+        for (String key : keys) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<String, Object>(key, getMapValue(obj, key)));
+        }
+        return entries;
+    }
+
+    /**
+     * Hands every property of the given object with its value to the visitor, the values are the ones
+     * {@link #getMapValue(Object, String)} returns
+     *
+     * @param obj     an object
+     * @param visitor the visitor to call for each property
+     */
+    default void forEachProperty(Object obj, PropertyVisitor visitor) {
+        for (Map.Entry<String, Object> entry : getPropertyEntries(obj)) {
+            visitor.visit(entry.getKey(), entry.getValue());
+        }
+    }
+
     /**
      * Extracts a value from an array anw unwraps provider specific data type
      *
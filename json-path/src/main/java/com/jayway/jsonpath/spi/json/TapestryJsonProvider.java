@@ -69,6 +69,11 @@ public class TapestryJsonProvider extends AbstractJsonProvider {
     return ((JSONObject) obj).keys();
   }
 
+  @Override
+  public boolean containsKey(final Object obj, final String key) {
+    return ((JSONObject) obj).has(key);
+  }
+
   @Override
   public Object getMapValue(final Object obj, final String key) {
     JSONObject json = (JSONObject) obj;
@@ -16,6 +16,7 @@ package com.jayway.jsonpath.spi.mapper;
 
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.TypeRef;
+import com.jayway.jsonpath.spi.json.JsonProvider;
 import net.minidev.json.JSONValue;
 import net.minidev.json.writer.JsonReader;
 import net.minidev.json.writer.JsonReaderI;
@@ -25,6 +26,7 @@ import java.math.BigInteger;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.util.Date;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 public class JsonSmartMappingProvider implements MappingProvider {
@@ -78,11 +80,11 @@ public class JsonSmartMappingProvider implements MappingProvider {
             return (T) source;
         }
         try {
-            if(!configuration.jsonProvider().isMap(source) && !configuration.jsonProvider().isArray(source)){
+            JsonProvider jsonProvider = configuration.jsonProvider();
+            if(!jsonProvider.isMap(source) && !jsonProvider.isArray(source)){
                 return factory.call().getMapper(targetType).convert(source);
             }
-            String s = configuration.jsonProvider().toJson(source);
-            return (T) JSONValue.parse(s, targetType);
+            return bind(JSONValue.defaultReader.getMapper(targetType), source, jsonProvider);
         } catch (Exception e) {
             throw new MappingException(e);
         }
@@ -91,7 +93,65 @@ public class JsonSmartMappingProvider implements MappingProvider {
 
     @Override
     public <T> T map(Object source, TypeRef<T> targetType, Configuration configuration) {
-        throw new UnsupportedOperationException("Json-smart provider does not support TypeRef! Use a Jackson or Gson based provider");
+        if (targetType.getType() instanceof Class) {
+            return map(source, (Class<T>) targetType.getType(), configuration);
+        }
+        if(source == null){
+            return null;
+        }
+        try {
+            JsonReaderI<T> mapper = JSONValue.defaultReader.getMapper(targetType.getType());
+            JsonProvider jsonProvider = configuration.jsonProvider();
+            if(!jsonProvider.isMap(source) && !jsonProvider.isArray(source)){
+                return mapper.convert(jsonProvider.unwrap(source));
+            }
+            return bind(mapper, source, jsonProvider);
+        } catch (Exception e) {
+            throw new MappingException(e);
+        }
+    }
+
+    /**
+     * Binds a map or array of the document to the target of the mapper, calling the mapper the way the json-smart
+     * parser does while it reads the same json, without writing the json and parsing it again. A value that can not
+     * be bound gives null, like {@link JSONValue#parse(String, Class)}.
+     */
+    private static <T> T bind(JsonReaderI<T> mapper, Object source, JsonProvider jsonProvider) {
+        try {
+            return (T) bindValue(mapper, source, jsonProvider);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static Object bindValue(JsonReaderI<?> mapper, Object source, JsonProvider jsonProvider) throws Exception {
+        if (jsonProvider.isMap(source)) {
+            Object current = mapper.createObject();
+            for (Map.Entry<String, Object> property : jsonProvider.getPropertyEntries(source)) {
+                String key = property.getKey();
+                Object value = property.getValue();
+                if (jsonProvider.isMap(value)) {
+                    mapper.setValue(current, key, bindValue(mapper.startObject(key), value, jsonProvider));
+                } else if (jsonProvider.isArray(value)) {
+                    mapper.setValue(current, key, bindValue(mapper.startArray(key), value, jsonProvider));
+                } else {
+                    mapper.setValue(current, key, jsonProvider.unwrap(value));
+                }
+            }
+            return mapper.convert(current);
+        } else {
+            Object current = mapper.createArray();
+            for (Object item : jsonProvider.toIterable(source)) {
+                if (jsonProvider.isMap(item)) {
+                    mapper.addValue(current, bindValue(mapper.startObject(null), item, jsonProvider));
+                } else if (jsonProvider.isArray(item)) {
+                    mapper.addValue(current, bindValue(mapper.startArray(null), item, jsonProvider));
+                } else {
+                    mapper.addValue(current, jsonProvider.unwrap(item));
+                }
+            }
+            return mapper.convert(current);
+        }
     }
 
     private static class StringReader extends JsonReaderI<String> {
@@ -565,6 +565,36 @@ public class FilterTest extends BaseTest {
     }
 
 
+    @Test
+    public void criteria_are_described_by_their_current_conditions() {
+        Object json = Configuration.defaultConfiguration().jsonProvider().parse("{\"foo\":\"bar\",\"age\":30}");
+        Criteria criteria = where("foo").is("bar");
+
+        assertThat(criteria.toString()).isEqualTo("@['foo'] == 'bar'");
+        assertThat(criteria.apply(createPredicateContext(json))).isTrue();
+
+        criteria.ne("bar");
+        assertThat(criteria.toString()).isEqualTo("@['foo'] != 'bar'");
+        assertThat(criteria.apply(createPredicateContext(json))).isFalse();
+
+        Criteria age = criteria.and("age").gt(40);
+        assertThat(age.toString()).isEqualTo("@['foo'] != 'bar' && @['age'] > 40");
+        assertThat(filter(criteria).toString()).isEqualTo("[?(@['foo'] != 'bar' && @['age'] > 40)]");
+    }
+
+    @Test
+    public void filters_keep_their_text_until_a_criteria_changes() {
+        Criteria criteria = where("foo").is("bar");
+        Filter filter = filter(criteria).or(where("age").gt(40));
+
+        String text = filter.toString();
+        assertThat(text).isEqualTo("[?(@['foo'] == 'bar' || @['age'] > 40)]");
+        assertThat(filter.toString()).isSameAs(text);
+
+        criteria.ne("bar");
+        assertThat(filter.toString()).isEqualTo("[?(@['foo'] != 'bar' || @['age'] > 40)]");
+    }
+
     @Test
     public void inline_in_criteria_evaluates() {
         List list = JsonPath.read(JSON_DOCUMENT, "$.store.book[?(@.category in ['reference', 'fiction'])]");
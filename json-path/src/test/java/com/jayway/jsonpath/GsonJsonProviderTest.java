@@ -9,12 +9,16 @@ import com.jayway.jsonpath.spi.mapper.MappingException;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
 import static com.jayway.jsonpath.JsonPath.using;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class GsonJsonProviderTest extends BaseTest {
@@ -41,6 +45,27 @@ public class GsonJsonProviderTest extends BaseTest {
             "}" +
             "]";
 
+    @Test
+    public void files_are_streamed_to_a_provider_that_would_copy_a_mapped_file() throws IOException {
+        final List<String> charsets = new ArrayList<String>();
+        Configuration conf = GSON_CONFIGURATION.jsonProvider(new GsonJsonProvider() {
+            @Override
+            public Object parse(InputStream jsonStream, String charset) {
+                charsets.add(charset);
+                return super.parse(jsonStream, charset);
+            }
+        });
+        Path file = Files.createTempFile("gson", ".json");
+        try {
+            Files.write(file, JSON.getBytes(UTF_8));
+
+            assertThat(using(conf).parse(file).read("$[2].foo", String.class)).isEqualTo("foo2");
+            assertThat(charsets).containsExactly("UTF-8");
+        } finally {
+            file.toFile().delete();
+        }
+    }
+
     @Test
     public void json_can_be_parsed() {
         JsonObject node =  using(GSON_CONFIGURATION).parse(JSON_DOCUMENT).read("$");
@@ -1,9 +1,15 @@
 package com.jayway.jsonpath;
 
+import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
 import java.io.InputStream;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import org.junit.Test;
@@ -65,6 +71,57 @@ public class JakartaJsonProviderTest extends BaseTest {
 		assertThat(books.size()).isEqualTo(4);
 	}
 
+	@Test
+	public void arrays_are_iterated_with_their_values_unwrapped() {
+		Object document = JAKARTA_JSON_CONFIGURATION.jsonProvider().parse("{\"a\" : [1, \"x\", [2.5, true, null]], \"b\" : {\"c\" : 3}}");
+		List<Object> values = new ArrayList<Object>();
+		for (Object value : JAKARTA_JSON_CONFIGURATION.jsonProvider().toIterable(JAKARTA_JSON_CONFIGURATION.jsonProvider().getMapValue(document, "a"))) {
+			values.add(value);
+		}
+		List<Object> objectValues = new ArrayList<Object>();
+		for (Object value : JAKARTA_JSON_CONFIGURATION.jsonProvider().toIterable(JAKARTA_JSON_CONFIGURATION.jsonProvider().getMapValue(document, "b"))) {
+			objectValues.add(value);
+		}
+
+		assertThat(values).isEqualTo(Arrays.<Object>asList(1, "x", Arrays.asList(2.5, true, null)));
+		assertThat(objectValues).isEqualTo(Arrays.<Object>asList(3));
+		List<Object> all = using(JAKARTA_JSON_CONFIGURATION).parse(document).read("$.a[*]");
+		assertThat(all).hasSize(3);
+	}
+
+	@Test
+	public void iterating_part_of_an_array_only_unwraps_that_part() {
+		final JsonArray array = (JsonArray) JAKARTA_JSON_CONFIGURATION.jsonProvider().parse("[1, \"x\", [2.5, true, null]]");
+		final List<Integer> read = new ArrayList<Integer>();
+		List<JsonValue> values = new AbstractList<JsonValue>() {
+			@Override
+			public JsonValue get(int index) {
+				read.add(index);
+				return array.get(index);
+			}
+
+			@Override
+			public int size() {
+				return array.size();
+			}
+		};
+
+		Iterator<?> iterator = JAKARTA_JSON_CONFIGURATION.jsonProvider().toIterable(values).iterator();
+
+		assertThat(iterator.next()).isEqualTo(1);
+		assertThat(read).containsExactly(0);
+	}
+
+	@Test
+	public void unwrapped_arrays_can_be_changed() {
+		Object array = JAKARTA_JSON_CONFIGURATION.jsonProvider().parse("[1, \"x\", [2.5, true, null]]");
+
+		List<Object> unwrapped = (List<Object>) JAKARTA_JSON_CONFIGURATION.jsonProvider().unwrap(array);
+		unwrapped.add(4);
+
+		assertThat(unwrapped).isEqualTo(Arrays.<Object>asList(1, "x", Arrays.asList(2.5, true, null), 4));
+	}
+
 	@Test
 	public void read_books_with_isbn() {
 		List<Object> books = using(JAKARTA_JSON_CONFIGURATION).parse(JSON_DOCUMENT).read("$..book[?(@.isbn)]");
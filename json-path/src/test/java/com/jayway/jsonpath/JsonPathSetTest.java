@@ -0,0 +1,140 @@
+package com.jayway.jsonpath;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+
+public class JsonPathSetTest extends BaseTest {
+
+    private static final List<String> PATHS = Arrays.asList(
+            "$",
+            "$.store",
+            "$.store.book[*].author",
+            "$.store.book[*].isbn",
+            "$.store.book[*]",
+            "$.store.book[0].author",
+            "$.store.book[0].isbn",
+            "$.store.book[0,2].title",
+            "$.store.book[1:3].category",
+            "$.store.book[-1:].title",
+            "$.store.book[*].missing.foo",
+            "$.store.book[?(@.isbn)].title",
+            "$.store..display-price",
+            "$.store.book.length()",
+            "$.store.bicycle.color",
+            "$.store.bicycle.missing",
+            "$.store.bicycle.missing.foo",
+            "$.store.missing.foo",
+            "$.string-property.foo",
+            "$['store']['book'][0]['title']",
+            "$.*.book[*].title"
+    );
+
+    private static final Option[][] OPTIONS = {
+            {},
+            {Option.AS_PATH_LIST},
+            {Option.ALWAYS_RETURN_LIST},
+            {Option.DEFAULT_PATH_LEAF_TO_NULL},
+            {Option.REQUIRE_PROPERTIES},
+            {Option.SUPPRESS_EXCEPTIONS},
+            {Option.SUPPRESS_EXCEPTIONS, Option.REQUIRE_PROPERTIES}
+    };
+
+    @Test
+    public void set_results_are_same_as_path_results() {
+        JsonPathSet set = JsonPathSet.compile(PATHS);
+
+        for (Option[] options : OPTIONS) {
+            Configuration conf = JACKSON_CONFIGURATION.setOptions(options);
+            Object document = conf.jsonProvider().parse(JSON_DOCUMENT);
+
+            JsonPathSet.Results results = set.read(document, conf);
+
+            assertThat(results.size()).isEqualTo(PATHS.size());
+            for (String path : PATHS) {
+                String expected = readOrError(path, JsonPath.compile(path), document, conf, null);
+                String actual = readOrError(path, null, document, conf, results);
+
+                assertEquals(path + " " + conf.getOptions(), expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void paths_of_the_set_read_the_same_on_their_own() {
+        JsonPathSet set = JsonPathSet.compile(PATHS);
+        Object document = JACKSON_CONFIGURATION.jsonProvider().parse(JSON_DOCUMENT);
+
+        set.read(document, JACKSON_CONFIGURATION);
+
+        for (int i = 0; i < PATHS.size(); i++) {
+            String path = PATHS.get(i);
+            String expected = readOrError(path, JsonPath.compile(path), document, JACKSON_CONFIGURATION, null);
+            String actual = readOrError(path, set.getPaths().get(i), document, JACKSON_CONFIGURATION, null);
+
+            assertEquals(path, expected, actual);
+        }
+    }
+
+    @Test
+    public void missing_path_does_not_fail_other_paths() {
+        JsonPathSet.Results results = JsonPathSet.compile("$.store.book[0].missing.foo", "$.store.book[0].author")
+                .read(JsonPath.using(JACKSON_CONFIGURATION).parse(JSON_DOCUMENT));
+
+        assertThat((String) results.read("$.store.book[0].author")).isEqualTo("Nigel Rees");
+        try {
+            results.read("$.store.book[0].missing.foo");
+            throw new AssertionError("Expected PathNotFoundException");
+        } catch (PathNotFoundException e) {
+            assertThat(e.getMessage()).isEqualTo("Missing property in path $['store']['book'][0]['missing']");
+        }
+    }
+
+    @Test
+    public void results_can_be_read_by_index_and_mapped() {
+        JsonPathSet set = JsonPathSet.compile("$.store.book[*].author", "$.int-small-property");
+
+        JsonPathSet.Results results = set.read(JsonPath.using(JACKSON_CONFIGURATION).parse(JSON_DOCUMENT));
+
+        assertThat((List<String>) results.read(0)).containsExactly("Nigel Rees", "Evelyn Waugh", "Herman Melville", "J. R. R. Tolkien");
+        assertThat(results.read("$.int-small-property", Long.class)).isEqualTo(1L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknown_path_can_not_be_read() {
+        JsonPathSet.compile("$.foo").read(JsonPath.using(JACKSON_CONFIGURATION).parse(JSON_DOCUMENT)).read("$.bar");
+    }
+
+    @Test
+    public void listener_abort_only_stops_its_path() {
+        final List<String> paths = new ArrayList<String>();
+        Configuration conf = JACKSON_CONFIGURATION.addEvaluationListeners(new EvaluationListener() {
+            @Override
+            public EvaluationContinuation resultFound(FoundResult found) {
+                paths.add(found.path());
+                return found.path().endsWith("['author']") ? EvaluationContinuation.ABORT : EvaluationContinuation.CONTINUE;
+            }
+        });
+
+        JsonPathSet.Results results = JsonPathSet.compile("$.store.book[*].author", "$.store.book[*].category")
+                .read(conf.jsonProvider().parse(JSON_DOCUMENT), conf);
+
+        assertThat((List<String>) results.read(0)).containsExactly("Nigel Rees");
+        assertThat((List<String>) results.read(1)).containsExactly("reference", "fiction", "fiction", "fiction");
+        assertThat(paths).hasSize(5);
+    }
+
+    private static String readOrError(String path, JsonPath jsonPath, Object document, Configuration conf, JsonPathSet.Results results) {
+        try {
+            Object result = results == null ? jsonPath.read(document, conf) : results.read(path);
+            return String.valueOf(result);
+        } catch (JsonPathException e) {
+            return e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package com.jayway.jsonpath;
 
+import com.jayway.jsonpath.spi.json.JsonProvider;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import static com.jayway.jsonpath.JsonPath.using;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @RunWith(Parameterized.class)
@@ -36,9 +46,91 @@ public class JsonProviderTest extends BaseTest {
         assertThat(using(conf).parse(JSON_DOCUMENT).read("$.int-max-property", int.class)).isEqualTo(Integer.MAX_VALUE);
     }
 
+    @Test
+    public void property_entries_are_the_keys_and_values_of_objects() {
+        JsonProvider provider = conf.jsonProvider();
+        Object document = provider.parse(JSON_DOCUMENT);
+        for (Object object : new Object[]{document, provider.getMapValue(document, "store"), provider.getMapValue(document, "null-property")}) {
+            if (!provider.isMap(object)) {
+                continue;
+            }
+            List<String> keys = new ArrayList<String>();
+            for (Map.Entry<String, Object> entry : provider.getPropertyEntries(object)) {
+                keys.add(entry.getKey());
+                assertThat(entry.getValue()).isEqualTo(provider.getMapValue(object, entry.getKey()));
+                assertThat(provider.containsKey(object, entry.getKey())).isTrue();
+            }
+            assertThat(keys).isEqualTo(new ArrayList<String>(provider.getPropertyKeys(object)));
+            assertThat(provider.containsKey(object, "missing")).isFalse();
+        }
+    }
+
+    @Test
+    public void property_visitors_get_the_keys_and_values_of_objects() {
+        final JsonProvider provider = conf.jsonProvider();
+        final Object store = provider.getMapValue(provider.parse(JSON_DOCUMENT), "store");
+        final List<String> keys = new ArrayList<String>();
+        provider.forEachProperty(store, new JsonProvider.PropertyVisitor() {
+            @Override
+            public void visit(String key, Object value) {
+                keys.add(key);
+                assertThat(value).isEqualTo(provider.getMapValue(store, key));
+            }
+        });
+        assertThat(keys).isEqualTo(new ArrayList<String>(provider.getPropertyKeys(store)));
+    }
 
+    @Test
+    public void buffers_are_parsed_from_their_position() {
+        byte[] json = JSON_DOCUMENT.getBytes(UTF_8);
+        byte[] padded = new byte[json.length + 4];
+        System.arraycopy(json, 0, padded, 2, json.length);
+        ByteBuffer heap = ByteBuffer.wrap(padded, 2, json.length).slice();
+        ByteBuffer direct = ByteBuffer.allocateDirect(json.length);
+        direct.put(json).flip();
 
+        for (ByteBuffer buffer : new ByteBuffer[]{heap, direct}) {
+            assertThat(using(conf).parse(buffer).read("$.string-property", String.class)).isEqualTo("string-value");
+            assertThat(buffer.position()).isEqualTo(0);
+        }
+    }
 
+    @Test
+    public void non_ascii_bytes_are_decoded_as_utf8() throws IOException {
+        String json = "{\"pl\u00e4in\":\"\u00e9\u00fc\u20ac\",\"escaped\":\"\u00e9\\\"\u00fc\\n\u20ac\"}";
+        byte[] bytes = json.getBytes(UTF_8);
+        Path file = Files.createTempFile("utf8", ".json");
+        try {
+            Files.write(file, bytes);
+            for (DocumentContext context : new DocumentContext[]{using(conf).parseUtf8(bytes), using(conf).parse(ByteBuffer.wrap(bytes)), using(conf).parse(file)}) {
+                assertThat(context.read("$['pl\u00e4in']", String.class)).isEqualTo("\u00e9\u00fc\u20ac");
+                assertThat(context.read("$.escaped", String.class)).isEqualTo("\u00e9\"\u00fc\n\u20ac");
+            }
+        } finally {
+            file.toFile().delete();
+        }
+    }
 
+    @Test
+    public void files_are_parsed_from_paths() throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        int count = 0;
+        while (json.length() < 2 * 1024 * 1024) {
+            json.append(count == 0 ? "" : ",").append("{\"s\":\"value-").append(count++).append("\"}");
+        }
+        Path small = Files.createTempFile("small", ".json");
+        Path large = Files.createTempFile("large", ".json");
+        try {
+            Files.write(small, JSON_DOCUMENT.getBytes(UTF_8));
+            Files.write(large, json.append("]").toString().getBytes(UTF_8));
 
+            assertThat(using(conf).parse(small).read("$.string-property", String.class)).isEqualTo("string-value");
+            assertThat(using(conf).parse(small.toFile()).read("$.string-property", String.class)).isEqualTo("string-value");
+            assertThat(using(conf).parse(large).read("$[" + (count - 1) + "].s", String.class)).isEqualTo("value-" + (count - 1));
+        } finally {
+            // a mapped file can not be deleted on windows until the mapping is collected
+            small.toFile().delete();
+            large.toFile().delete();
+        }
+    }
 }
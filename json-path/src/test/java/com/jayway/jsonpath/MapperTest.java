@@ -5,6 +5,7 @@ import org.junit.Test;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Date;
+import java.util.List;
 
 import static com.jayway.jsonpath.JsonPath.parse;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -58,4 +59,28 @@ public class MapperTest extends BaseTest {
         assertThat(parse("{\"val\": true}").read("val", boolean.class)).isTrue();
         assertThat(parse("{\"val\": false}").read("val", boolean.class)).isFalse();
     }
+
+    @Test
+    public void an_object_can_be_mapped_to_a_bean() {
+        Item item = parse("{\"item\": {\"name\": \"a\", \"count\": 2, \"tags\": [\"x\", \"y\"]}}").read("item", Item.class);
+
+        assertThat(item.name).isEqualTo("a");
+        assertThat(item.count).isEqualTo(2);
+        assertThat(item.tags).containsExactly("x", "y");
+    }
+
+    @Test
+    public void an_array_can_be_mapped_with_a_TypeRef() {
+        List<Item> items = parse("{\"items\": [{\"name\": \"a\", \"count\": 1, \"tags\": []}, {\"name\": \"b\", \"count\": 2, \"tags\": [\"x\"]}]}")
+                .read("items", new TypeRef<List<Item>>() {});
+
+        assertThat(items).extracting("name").containsExactly("a", "b");
+        assertThat(items.get(1).tags).containsExactly("x");
+    }
+
+    public static class Item {
+        public String name;
+        public Integer count;
+        public List<String> tags;
+    }
 }
@@ -1,11 +1,15 @@
 package com.jayway.jsonpath;
 
+import com.jayway.jsonpath.spi.json.JsonProvider;
+import com.jayway.jsonpath.spi.mapper.MappingProvider;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.jayway.jsonpath.JsonPath.using;
 import static com.jayway.jsonpath.Option.*;
@@ -161,4 +165,43 @@ public class OptionsTest extends BaseTest {
 
         assertThat(result2).containsExactly(null, null, "0-553-21311-3", "0-395-19395-8");
     }
+
+    @Test
+    public void options_are_contained_as_in_the_option_set() {
+        Configuration conf = Configuration.builder().options(SUPPRESS_EXCEPTIONS, AS_PATH_LIST).build();
+
+        for (Option option : Option.values()) {
+            assertThat(conf.containsOption(option)).isEqualTo(conf.getOptions().contains(option));
+        }
+    }
+
+    @Test
+    public void the_default_configuration_is_built_again_when_the_defaults_change() {
+        final Configuration conf = Configuration.defaultConfiguration();
+        assertThat(Configuration.defaultConfiguration() == conf).isTrue();
+
+        Configuration.setDefaults(new Configuration.Defaults() {
+            @Override
+            public JsonProvider jsonProvider() {
+                return conf.jsonProvider();
+            }
+
+            @Override
+            public Set<Option> options() {
+                return EnumSet.of(REQUIRE_PROPERTIES);
+            }
+
+            @Override
+            public MappingProvider mappingProvider() {
+                return conf.mappingProvider();
+            }
+        });
+        try {
+            assertThat(Configuration.defaultConfiguration() == conf).isFalse();
+            assertThat(Configuration.defaultConfiguration().containsOption(REQUIRE_PROPERTIES)).isTrue();
+        } finally {
+            Configuration.setDefaults(null);
+        }
+        assertThat(Configuration.defaultConfiguration().containsOption(REQUIRE_PROPERTIES)).isFalse();
+    }
 }
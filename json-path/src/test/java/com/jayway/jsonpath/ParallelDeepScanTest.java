@@ -0,0 +1,109 @@
+package com.jayway.jsonpath;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+
+public class ParallelDeepScanTest extends BaseTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private static final String[] PATHS = {
+            "$..id",
+            "$..name",
+            "$..tags",
+            "$..tags[0]",
+            "$..tags[*]",
+            "$..*",
+            "$..items[?(@.id > 1500)].name",
+            "$..[?(@.id < 10)]",
+            "$.items..name",
+            "$..items[1].name",
+            "$..missing"
+    };
+
+    private static final Option[][] OPTIONS = {
+            {},
+            {Option.AS_PATH_LIST},
+            {Option.DEFAULT_PATH_LEAF_TO_NULL},
+            {Option.REQUIRE_PROPERTIES, Option.SUPPRESS_EXCEPTIONS}
+    };
+
+    @AfterClass
+    public static void shutdown() {
+        POOL.shutdown();
+    }
+
+    @Test
+    public void parallel_scan_results_are_same_as_sequential_scan_results() {
+        String json = document(2000);
+
+        for (Option[] options : OPTIONS) {
+            Configuration conf = JACKSON_CONFIGURATION.setOptions(options);
+            Object document = conf.jsonProvider().parse(json);
+
+            for (String path : PATHS) {
+                String expected = readOrError(path, document, conf);
+                String actual = readOrError(path, document, conf.scanPool(POOL));
+
+                assertEquals(path + " " + conf.getOptions(), expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void listener_sees_parallel_results_in_document_order() {
+        final List<String> paths = new ArrayList<String>();
+        Configuration conf = JACKSON_CONFIGURATION.scanPool(POOL).addEvaluationListeners(new EvaluationListener() {
+            @Override
+            public EvaluationContinuation resultFound(FoundResult found) {
+                paths.add(found.path());
+                return found.index() == 999 ? EvaluationContinuation.ABORT : EvaluationContinuation.CONTINUE;
+            }
+        });
+
+        List<Integer> ids = JsonPath.using(conf).parse(document(2000)).read("$..id");
+
+        assertThat(ids).hasSize(1000);
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(i, ids.get(i).intValue());
+            assertEquals("$['items'][" + i + "]['id']", paths.get(i));
+        }
+    }
+
+    @Test
+    public void scan_pool_is_kept_by_derived_configurations() {
+        Configuration conf = JACKSON_CONFIGURATION.scanPool(POOL).addOptions(Option.AS_PATH_LIST);
+
+        assertThat(conf.scanPool()).isSameAs(POOL);
+        assertThat(conf.scanPool(null).scanPool()).isNull();
+    }
+
+    private static String readOrError(String path, Object document, Configuration conf) {
+        try {
+            Object result = JsonPath.compile(path).read(document, conf);
+            return String.valueOf(result);
+        } catch (JsonPathException e) {
+            return e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+    }
+
+    private static String document(int size) {
+        StringBuilder sb = new StringBuilder("{\"items\" : [");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\" : ").append(i)
+                    .append(", \"name\" : \"item-").append(i)
+                    .append("\", \"tags\" : [\"t").append(i % 7).append("\", \"u").append(i % 3).append("\"]}");
+        }
+        return sb.append("]}").toString();
+    }
+}
@@ -2,6 +2,7 @@ package com.jayway.jsonpath;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -23,4 +24,24 @@ public class PredicateTest extends BaseTest {
 
         assertThat(reader.read("$.store.book[?].isbn", List.class, booksWithISBN)).containsOnly("0-395-19395-8", "0-553-21311-3");
     }
+
+    @Test
+    public void predicates_can_keep_the_context_of_each_item() {
+        final List<Predicate.PredicateContext> contexts = new ArrayList<Predicate.PredicateContext>();
+        Predicate keepContext = new Predicate() {
+            @Override
+            public boolean apply(PredicateContext ctx) {
+                contexts.add(ctx);
+                return true;
+            }
+        };
+
+        List<String> categories = reader.read("$.store.book[?].category", List.class, keepContext);
+
+        assertThat(categories).hasSize(4);
+        assertThat(contexts).hasSize(4);
+        for (int i = 0; i < contexts.size(); i++) {
+            assertThat(contexts.get(i).item(Map.class).get("category")).isEqualTo(categories.get(i));
+        }
+    }
 }
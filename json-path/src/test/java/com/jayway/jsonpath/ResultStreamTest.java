@@ -0,0 +1,145 @@
+package com.jayway.jsonpath;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+
+public class ResultStreamTest extends BaseTest {
+
+    private static final String[] PATHS = {
+            "$",
+            "$.store.book[*].author",
+            "$.store.book[0,2].title",
+            "$.store.book[1:3].category",
+            "$.store.book[?(@.isbn)].title",
+            "$.store.book[*].missing",
+            "$.store.*",
+            "$..author",
+            "$..book[1].title",
+            "$..[1].title",
+            "$..book[?(@.price > 10)].title",
+            "$..*",
+            "$.store..price",
+            "$.store.book[0]['author','title']",
+            "$.missing"
+    };
+
+    private static final Option[][] OPTIONS = {
+            {},
+            {Option.AS_PATH_LIST},
+            {Option.DEFAULT_PATH_LEAF_TO_NULL},
+            {Option.SUPPRESS_EXCEPTIONS}
+    };
+
+    @Test
+    public void stream_results_are_same_as_read_results() {
+        for (String path : PATHS) {
+            for (Option[] options : OPTIONS) {
+                Configuration conf = JACKSON_CONFIGURATION.setOptions(options);
+                Object document = conf.jsonProvider().parse(JSON_DOCUMENT);
+
+                List<Object> expected = readAsList(path, document, conf);
+                List<Object> actual = JsonPath.compile(path).stream(document, conf).collect(Collectors.toList());
+
+                assertEquals(path + " " + conf.getOptions(), expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void limit_stops_evaluation() {
+        CountingPredicate all = new CountingPredicate();
+
+        List<Object> firstThree = JsonPath.compile("$.items[?]", all).stream(document(10000), JACKSON_CONFIGURATION)
+                .limit(3)
+                .collect(Collectors.toList());
+
+        assertThat(firstThree).hasSize(3);
+        assertThat(all.count.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    public void find_first_stops_deep_scan() {
+        CountingPredicate all = new CountingPredicate();
+
+        Object first = JsonPath.compile("$..[?]", all).stream(document(10000), JACKSON_CONFIGURATION).findFirst().get();
+
+        assertThat(first).isNotNull();
+        assertThat(all.count.get()).isLessThan(10);
+    }
+
+    @Test
+    public void iterator_returns_paths_as_path_list() {
+        Iterator<String> paths = JsonPath.compile("$.store.book[*].author")
+                .iterator(parsedDocument(), JACKSON_CONFIGURATION.addOptions(Option.AS_PATH_LIST));
+
+        assertThat(paths.next()).isEqualTo("$['store']['book'][0]['author']");
+        assertThat(paths.next()).isEqualTo("$['store']['book'][1]['author']");
+    }
+
+    @Test
+    public void function_result_is_single_element() {
+        List<Object> result = JsonPath.using(JACKSON_CONFIGURATION).parse(JSON_DOCUMENT)
+                .stream("$.store.book.length()").collect(Collectors.toList());
+
+        assertThat(result).containsExactly(4);
+    }
+
+    @Test
+    public void listener_can_abort_stream() {
+        final List<String> paths = new ArrayList<String>();
+        Configuration conf = JACKSON_CONFIGURATION.addEvaluationListeners(new EvaluationListener() {
+            @Override
+            public EvaluationContinuation resultFound(FoundResult found) {
+                paths.add(found.path());
+                return found.index() == 1 ? EvaluationContinuation.ABORT : EvaluationContinuation.CONTINUE;
+            }
+        });
+
+        List<Object> authors = JsonPath.using(conf).parse(JSON_DOCUMENT).stream("$..author").collect(Collectors.toList());
+
+        assertThat(authors).containsExactly("Nigel Rees", "Evelyn Waugh");
+        assertThat(paths).containsExactly("$['store']['book'][0]['author']", "$['store']['book'][1]['author']");
+    }
+
+    private static Object parsedDocument() {
+        return JACKSON_CONFIGURATION.jsonProvider().parse(JSON_DOCUMENT);
+    }
+
+    private static List<Object> readAsList(String path, Object document, Configuration conf) {
+        try {
+            return JsonPath.compile(path).read(document, conf.addOptions(Option.ALWAYS_RETURN_LIST));
+        } catch (PathNotFoundException e) {
+            // a definite path without a match has no elements to stream
+            return new ArrayList<Object>();
+        }
+    }
+
+    private static Object document(int size) {
+        StringBuilder sb = new StringBuilder("{\"items\" : [");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\" : ").append(i).append('}');
+        }
+        return JACKSON_CONFIGURATION.jsonProvider().parse(sb.append("]}").toString());
+    }
+
+    private static class CountingPredicate implements Predicate {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public boolean apply(PredicateContext ctx) {
+            count.incrementAndGet();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.jayway.jsonpath;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class StreamingReadTest extends BaseTest {
+
+    private static final String[] STREAMABLE_PATHS = {
+            "$",
+            "$.store",
+            "$.store.book[0].author",
+            "$.store.book[*].author",
+            "$.store.book[*].isbn",
+            "$.store.book[1].isbn",
+            "$.store.book[0,2].title",
+            "$.store.book[1:3]",
+            "$.store.book[:2].category",
+            "$.store.book[2:]",
+            "$.store.book[10]",
+            "$.store.*",
+            "$.store.bicycle.escape",
+            "$.store.bicycle['foo:bar']",
+            "$.store.book[*].missing.foo",
+            "$.missing",
+            "$.missing.foo",
+            "$.null-property",
+            "$.null-property.foo",
+            "$.long-max-property",
+            "$.string-property.foo",
+            "$.store.book[0][0]"
+    };
+
+    private static final Option[][] OPTIONS = {
+            {},
+            {Option.AS_PATH_LIST},
+            {Option.ALWAYS_RETURN_LIST},
+            {Option.DEFAULT_PATH_LEAF_TO_NULL},
+            {Option.REQUIRE_PROPERTIES},
+            {Option.SUPPRESS_EXCEPTIONS},
+            {Option.SUPPRESS_EXCEPTIONS, Option.REQUIRE_PROPERTIES}
+    };
+
+    @Test
+    public void stream_results_are_same_as_document_results() throws IOException {
+        for (String path : STREAMABLE_PATHS) {
+            JsonPath jsonPath = JsonPath.compile(path);
+            assertTrue(path, jsonPath.isStreamable());
+
+            for (Option[] options : OPTIONS) {
+                Configuration conf = JACKSON_CONFIGURATION.setOptions(options);
+
+                String expected = readOrError(jsonPath, conf, false);
+                String actual = readOrError(jsonPath, conf, true);
+
+                assertEquals(path + " " + conf.getOptions(), expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void scans_filters_and_functions_are_not_streamable() {
+        assertThat(JsonPath.compile("$..author").isStreamable()).isFalse();
+        assertThat(JsonPath.compile("$.store.book[?(@.isbn)]").isStreamable()).isFalse();
+        assertThat(JsonPath.compile("$.store.book.length()").isStreamable()).isFalse();
+        assertThat(JsonPath.compile("$.store.book[-1]").isStreamable()).isFalse();
+        assertThat(JsonPath.compile("$.store.book[-2:]").isStreamable()).isFalse();
+        assertThat(JsonPath.compile("$.store.book[2,0]").isStreamable()).isFalse();
+        assertThat(JsonPath.compile("$.store.book[0]['author','title']").isStreamable()).isFalse();
+    }
+
+    @Test(expected = JsonPathException.class)
+    public void reading_a_stream_with_a_scan_fails() throws IOException {
+        JsonPath.compile("$..author").readStream(stream(JSON_DOCUMENT), JACKSON_CONFIGURATION);
+    }
+
+    @Test
+    public void definite_path_stops_reading_when_value_is_found() throws IOException {
+        // the document is cut off after the value, reading the whole of it would fail
+        String truncated = "{\"a\" : {\"b\" : [1, 2, {\"c\" : \"found\"}, 4, ";
+
+        String result = JsonPath.compile("$.a.b[2].c").readStream(stream(truncated), JACKSON_CONFIGURATION);
+
+        assertThat(result).isEqualTo("found");
+    }
+
+    @Test(expected = InvalidJsonException.class)
+    public void invalid_json_fails() throws IOException {
+        JsonPath.compile("$.a[*]").readStream(stream("{\"a\" : [1, 2, "), JACKSON_CONFIGURATION);
+    }
+
+    @Test
+    public void content_after_the_document_fails() throws IOException {
+        String ndjson = "{\"id\" : 1}\n{\"id\" : 2}\n";
+        try {
+            JsonPath.compile("$.*").readStream(stream(ndjson), JACKSON_CONFIGURATION);
+            fail("expected an exception");
+        } catch (InvalidJsonException e) {
+            assertThat(e.getMessage()).contains("single document");
+        }
+    }
+
+    @Test
+    public void scalars_have_the_types_the_provider_gives_them() throws IOException {
+        String[] paths = {"$.string-property", "$.int-max-property", "$.long-max-property", "$.boolean-property", "$.null-property", "$.store.book[0].price"};
+        for (Configuration conf : Configurations.configurations()) {
+            for (String path : paths) {
+                Object expected = JsonPath.compile(path).read(stream(JSON_DOCUMENT), conf);
+                Object actual = JsonPath.compile(path).readStream(stream(JSON_DOCUMENT), conf);
+
+                assertEquals(path + " " + conf.jsonProvider(), expected, actual);
+                assertEquals(path + " " + conf.jsonProvider(), expected == null ? null : expected.getClass(), actual == null ? null : actual.getClass());
+            }
+        }
+    }
+
+    @Test
+    public void listener_can_abort_stream_evaluation() throws IOException {
+        final List<String> paths = new ArrayList<String>();
+        Configuration conf = JACKSON_CONFIGURATION.addEvaluationListeners(new EvaluationListener() {
+            @Override
+            public EvaluationContinuation resultFound(FoundResult found) {
+                paths.add(found.path());
+                return found.index() == 1 ? EvaluationContinuation.ABORT : EvaluationContinuation.CONTINUE;
+            }
+        });
+
+        List<String> authors = JsonPath.compile("$.store.book[*].author").readStream(stream(JSON_DOCUMENT), conf);
+
+        assertThat(authors).containsExactly("Nigel Rees", "Evelyn Waugh");
+        assertThat(paths).containsExactly("$['store']['book'][0]['author']", "$['store']['book'][1]['author']");
+    }
+
+    private static String readOrError(JsonPath jsonPath, Configuration conf, boolean streaming) throws IOException {
+        try {
+            Object result = streaming
+                    ? jsonPath.readStream(stream(JSON_DOCUMENT), conf)
+                    : jsonPath.read(stream(JSON_DOCUMENT), conf);
+            return String.valueOf(result);
+        } catch (PathNotFoundException e) {
+            return e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
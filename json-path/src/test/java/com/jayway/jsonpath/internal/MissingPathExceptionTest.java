@@ -0,0 +1,88 @@
+package com.jayway.jsonpath.internal;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.JsonPathException;
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.PathNotFoundException;
+import org.junit.Test;
+
+import java.util.Iterator;
+
+import static com.jayway.jsonpath.Configurations.JACKSON_CONFIGURATION;
+import static org.junit.Assert.assertEquals;
+
+public class MissingPathExceptionTest {
+
+    private static final Object DOCUMENT = JACKSON_CONFIGURATION.jsonProvider().parse("{\"a\" : 1, \"b\" : [{\"c\" : {}}]}");
+
+    @Test
+    public void messages_are_formatted_when_asked_for() {
+        final int[] formatted = new int[1];
+        Object path = new Object() {
+            @Override
+            public String toString() {
+                formatted[0]++;
+                return "$['a']";
+            }
+        };
+        MissingPathException missing = new MissingPathException("Missing property in path %s", path);
+        PathMismatchException mismatch = new PathMismatchException("Expected number node");
+
+        assertEquals(0, formatted[0]);
+        assertEquals("Missing property in path $['a']", missing.getMessage());
+        assertEquals("Missing property in path $['a']", missing.getMessage());
+        assertEquals(1, formatted[0]);
+        assertEquals("Expected number node", mismatch.getMessage());
+        assertEquals(0, mismatch.getStackTrace().length);
+    }
+
+    @Test
+    public void reads_throw_the_public_exceptions() {
+        Configuration required = JACKSON_CONFIGURATION.addOptions(Option.REQUIRE_PROPERTIES);
+
+        assertThrown(PathNotFoundException.class, "Missing property in path $['x']", read("$.x.y", JACKSON_CONFIGURATION));
+        assertThrown(PathNotFoundException.class, "No results for path: $['b'][0]['c']['d']", read("$.b[0].c.d", required));
+        assertThrown(PathNotFoundException.class, "Missing property in path $['b'][0]['x']", read("$.b[*].x.y", required));
+        assertThrown(InvalidPathException.class, "Filter: [?] can not be applied to primitives. Current context is: 1",
+                read("$.a[?(@.c)]", JACKSON_CONFIGURATION));
+        assertThrown(PathNotFoundException.class, "Missing property in path $['x']", set("$.x.y"));
+        assertThrown(PathNotFoundException.class, "Missing property in path $['b'][0]['x']", iterate("$.b[*].x.y", required));
+    }
+
+    private static JsonPathException read(String path, Configuration configuration) {
+        try {
+            JsonPath.compile(path).read(DOCUMENT, configuration);
+            return null;
+        } catch (JsonPathException e) {
+            return e;
+        }
+    }
+
+    private static JsonPathException set(String path) {
+        try {
+            JsonPath.compile(path).set(DOCUMENT, 1, JACKSON_CONFIGURATION);
+            return null;
+        } catch (JsonPathException e) {
+            return e;
+        }
+    }
+
+    private static JsonPathException iterate(String path, Configuration configuration) {
+        try {
+            Iterator<Object> iterator = JsonPath.compile(path).iterator(DOCUMENT, configuration);
+            while (iterator.hasNext()) {
+                iterator.next();
+            }
+            return null;
+        } catch (JsonPathException e) {
+            return e;
+        }
+    }
+
+    private static void assertThrown(Class<?> type, String message, JsonPathException thrown) {
+        assertEquals(message, type, thrown == null ? null : thrown.getClass());
+        assertEquals(message, thrown.getMessage());
+    }
+}
@@ -0,0 +1,60 @@
+package com.jayway.jsonpath.internal.filter;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.jayway.jsonpath.internal.filter.ValueNodes.NumberNode;
+import static org.junit.Assert.assertEquals;
+
+public class NumberNodeTest {
+
+    private static final Number[] VALUES = {
+            0, -0.0, 0.0, 1, 10, 10L, -3, 10.0, 10.5, 0.1, 0.30000000000000004, 1.0E10, 1.5E3, -2.5E-7,
+            Long.MAX_VALUE, Long.MIN_VALUE, 9007199254740992L, 9007199254740993L, 9.007199254740993E15,
+            Integer.MAX_VALUE, (short) 7, (byte) -1, 0.1f, 1.1f,
+            new BigDecimal("0.1"), new BigDecimal("10.00"), new BigDecimal("123456789012345678901234567890.5"),
+            new BigInteger("123456789012345678901234567890")
+    };
+
+    private static final String[] LITERALS = {
+            "0", "-0", "1", "10", "10.0", "10.5", "0.1", "0.10000000000000001", "0.30000000000000004", "1E1", "1e10",
+            "1500", "-2.5E-7", "9007199254740993", "9223372036854775807", "9223372036854775808",
+            "123456789012345678901234567890", "1E400", "1E-400"
+    };
+
+    @Test
+    public void numbers_compare_as_their_decimal_values() {
+        List<NumberNode> nodes = new ArrayList<NumberNode>();
+        for (Number value : VALUES) {
+            nodes.add(ValueNode.createNumberNode(value));
+        }
+        for (String literal : LITERALS) {
+            nodes.add(ValueNode.createNumberNode(literal));
+        }
+
+        for (NumberNode left : nodes) {
+            BigDecimal l = new BigDecimal(left.toString());
+            for (NumberNode right : nodes) {
+                BigDecimal r = new BigDecimal(right.toString());
+                String message = left + " <=> " + right;
+
+                assertEquals(message, l.compareTo(r), left.compareTo(right));
+                assertEquals(message, l.compareTo(r) == 0, left.equals(right));
+            }
+            for (Number value : VALUES) {
+                assertEquals(left + " <=> " + value, l.compareTo(new BigDecimal(value.toString())), left.compareTo(value));
+            }
+        }
+    }
+
+    @Test
+    public void numbers_read_from_documents_keep_their_string_form() {
+        for (Number value : VALUES) {
+            assertEquals(new BigDecimal(value.toString()).toString(), ValueNode.createNumberNode(value).toString());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.jayway.jsonpath.internal.filter;
+
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.Filter;
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.JsonPathException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.jayway.jsonpath.Configurations.JACKSON_CONFIGURATION;
+import static com.jayway.jsonpath.JsonPath.using;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class ParameterNodeTest {
+
+    private static final String JSON = "{\"users\" : [" +
+            "{\"id\" : 1, \"name\" : \"ann\", \"roles\" : [\"admin\"], \"groups\" : [{\"id\" : 10}]}," +
+            "{\"id\" : 2, \"name\" : \"$.users[0].name\", \"roles\" : [], \"groups\" : [{\"id\" : 20}]}," +
+            "{\"id\" : 3, \"name\" : \"bob\", \"roles\" : [\"user\"], \"groups\" : []}]}";
+
+    private final DocumentContext context = using(JACKSON_CONFIGURATION).parse(JSON);
+
+    @Test
+    public void parameters_take_the_values_of_the_read() {
+        JsonPath path = JsonPath.compile("$.users[?(@.id == :id)].name");
+
+        List<String> first = context.read(path, parameters("id", 1));
+        List<String> third = context.read(path, parameters("id", 3L));
+        List<String> none = context.read(path, parameters("id", 4));
+
+        assertThat(first).containsExactly("ann");
+        assertThat(third).containsExactly("bob");
+        assertThat(none).isEmpty();
+        assertEquals("[?(@['id'] == :id)]", Filter.parse("[?(@.id == :id)]").toString());
+    }
+
+    @Test
+    public void parameters_are_supported_where_literals_are() {
+        List<Integer> gt = context.read("$.users[?(:min < @.id && @.name != :name)].id", parameters("min", 1, "name", "bob"));
+        List<Integer> in = context.read("$.users[?(@.id in :ids)].id", parameters("ids", Arrays.asList(1, 3)));
+        List<Integer> anyof = context.read("$.users[?(@.roles anyof :roles)].id", parameters("roles", Collections.singletonList("user")));
+        List<Integer> nested = context.read("$.users[?(@.groups[?(@.id == :group)] empty false)].id", parameters("group", 20));
+        List<Integer> nulls = context.read("$.users[?(@.missing == :value)].id", parameters("value", null));
+
+        assertThat(gt).containsExactly(2);
+        assertThat(in).containsExactly(1, 3);
+        assertThat(anyof).containsExactly(3);
+        assertThat(nested).containsExactly(2);
+        assertThat(nulls).isEmpty();
+    }
+
+    @Test
+    public void parameters_are_bound_in_function_arguments() {
+        Double sum = context.read("$.sum($.users[?(@.id > :min)].id)", parameters("min", 1));
+        Integer length = context.read("$..users[?(@.id == :id)].length()", parameters("id", 1));
+
+        assertThat(sum).isEqualTo(5D);
+        assertThat(length).isEqualTo(4);
+    }
+
+    @Test
+    public void strings_are_not_read_as_paths_or_json() {
+        List<Integer> path = context.read("$.users[?(@.name == :name)].id", parameters("name", "$.users[0].name"));
+        List<Integer> json = context.read("$.users[?(@.name in :names)].id", parameters("names", Collections.singletonList("[\"ann\"]")));
+
+        assertThat(path).containsExactly(2);
+        assertThat(json).isEmpty();
+    }
+
+    @Test
+    public void parameters_without_values_are_errors() {
+        try {
+            context.read("$.users[?(@.id == :id)]", parameters("other", 1));
+            fail("expected an exception");
+        } catch (JsonPathException e) {
+            assertEquals("No value given for parameter :id", e.getMessage());
+        }
+        try {
+            JsonPath.compile("$.users[?(@.id == :)]");
+            fail("expected an exception");
+        } catch (InvalidPathException e) {
+            // expected
+        }
+    }
+
+    private static Map<String, Object> parameters(Object... namesAndValues) {
+        Map<String, Object> parameters = new HashMap<String, Object>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            parameters.put((String) namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,131 @@
+package com.jayway.jsonpath.internal.filter;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.EvaluationListener;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.JsonPathException;
+import com.jayway.jsonpath.Option;
+import org.junit.Test;
+
+import static com.jayway.jsonpath.Configurations.GSON_CONFIGURATION;
+import static com.jayway.jsonpath.Configurations.JACKSON_CONFIGURATION;
+import static com.jayway.jsonpath.Configurations.JACKSON_JSON_NODE_CONFIGURATION;
+import static com.jayway.jsonpath.Configurations.JSON_SMART_CONFIGURATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class PropertyComparisonTest {
+
+    private static final String DOCUMENT = "{\"items\" : [" +
+            "{\"v\" : 1}," +
+            "{\"v\" : 10}," +
+            "{\"v\" : 10.0}," +
+            "{\"v\" : 10.5}," +
+            "{\"v\" : -3}," +
+            "{\"v\" : 12345678901234}," +
+            "{\"v\" : 123456789012345678901234567890}," +
+            "{\"v\" : 1.5E3}," +
+            "{\"v\" : \"10\"}," +
+            "{\"v\" : \"10.0\"}," +
+            "{\"v\" : \"abc\"}," +
+            "{\"v\" : \"\"}," +
+            "{\"v\" : true}," +
+            "{\"v\" : false}," +
+            "{\"v\" : null}," +
+            "{\"v\" : [1, 2]}," +
+            "{\"v\" : {\"w\" : 10}}," +
+            "{\"w\" : 10}," +
+            "{\"a\" : {\"b\" : 10}}," +
+            "{\"a\" : {\"b\" : \"x\"}}," +
+            "{\"a\" : {\"c\" : 10}}," +
+            "{\"a\" : 10}," +
+            "{\"a\" : null}," +
+            "10," +
+            "\"v\"," +
+            "[10]" +
+            "]}";
+
+    private static final String[] OPERATORS = {"==", "!=", "===", "!==", "<", "<=", ">", ">="};
+
+    private static final String[] LITERALS = {"10", "10.0", "-3", "1500", "123456789012345678901234567890", "1E1",
+            "'10'", "'10.0'", "'abc'", "''", "'x'", "true", "false", "null"};
+
+    private static final String[] PATHS = {"@.v", "@.a.b", "@['v']"};
+
+    private static final Option[][] OPTIONS = {
+            {},
+            {Option.SUPPRESS_EXCEPTIONS},
+            {Option.DEFAULT_PATH_LEAF_TO_NULL},
+            {Option.REQUIRE_PROPERTIES}
+    };
+
+    private static final Configuration[] CONFIGURATIONS = {
+            JSON_SMART_CONFIGURATION,
+            JACKSON_CONFIGURATION,
+            JACKSON_JSON_NODE_CONFIGURATION,
+            GSON_CONFIGURATION
+    };
+
+    @Test
+    public void property_comparisons_are_same_as_evaluated_comparisons() {
+        for (Configuration configuration : CONFIGURATIONS) {
+            for (Option[] options : OPTIONS) {
+                Configuration conf = configuration.setOptions(options).addOptions(Option.AS_PATH_LIST);
+                // path evaluation notifies listeners so a listener turns the property comparison off
+                Configuration evaluated = conf.addEvaluationListeners(new EvaluationListener() {
+                    @Override
+                    public EvaluationContinuation resultFound(FoundResult found) {
+                        return EvaluationContinuation.CONTINUE;
+                    }
+                });
+                Object document = conf.jsonProvider().parse(DOCUMENT);
+
+                for (String path : PATHS) {
+                    for (String operator : OPERATORS) {
+                        for (String literal : LITERALS) {
+                            assertSameResult("$.items[?(" + path + " " + operator + " " + literal + ")]", document, conf, evaluated);
+                            assertSameResult("$.items[?(" + literal + " " + operator + " " + path + ")]", document, conf, evaluated);
+                        }
+                    }
+                }
+                assertSameResult("$.items[?(@.v < 11 && @.v != '10')]", document, conf, evaluated);
+                assertSameResult("$.items[?(@.v > 5 || @.a.b == 'x')]", document, conf, evaluated);
+            }
+        }
+    }
+
+    @Test
+    public void only_property_and_literal_comparisons_are_compiled() {
+        assertNotNull(compile("@.price", RelationalOperator.LT, 10));
+        assertNotNull(compile("@.book.category", RelationalOperator.EQ, "fiction"));
+        assertNotNull(compile(10, RelationalOperator.GTE, "@.price"));
+
+        assertNull(compile("$.price", RelationalOperator.LT, 10));
+        assertNull(compile("@.book[0]", RelationalOperator.LT, 10));
+        assertNull(compile("@.*", RelationalOperator.LT, 10));
+        assertNull(compile("@['a','b']", RelationalOperator.LT, 10));
+        assertNull(compile("@.price", RelationalOperator.LT, "@.max"));
+        assertNull(compile("@.price", RelationalOperator.IN, 10));
+    }
+
+    private static PropertyComparison compile(Object left, RelationalOperator operator, Object right) {
+        return PropertyComparison.compile(ValueNode.toValueNode(left), operator, ValueNode.toValueNode(right));
+    }
+
+    private static void assertSameResult(String path, Object document, Configuration conf, Configuration evaluated) {
+        assertEquals(path + " " + conf.getOptions() + " " + conf.jsonProvider().getClass().getSimpleName(),
+                readOrError(path, document, evaluated), readOrError(path, document, conf));
+    }
+
+    private static String readOrError(String path, Object document, Configuration conf) {
+        try {
+            Object result = JsonPath.compile(path).read(document, conf);
+            return String.valueOf(result);
+        } catch (JsonPathException e) {
+            return e.getClass().getSimpleName() + ": " + e.getMessage();
+        } catch (NumberFormatException e) {
+            return e.getClass().getSimpleName();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.jayway.jsonpath.internal.filter;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.jayway.jsonpath.Configurations.JACKSON_CONFIGURATION;
+import static com.jayway.jsonpath.internal.filter.ValueNodes.ValueListNode;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+
+public class ValueListNodeTest {
+
+    private static final List<Object> VALUES = Arrays.<Object>asList(
+            0, -0.0, 1, 10, 10L, 10.0, 10.5, 0.1, 1.0E10, 1.0E17, 1.0E19, 100000000000000000L, Long.MAX_VALUE,
+            9007199254740993L, new BigDecimal("10.50"), new BigDecimal("1E+3"), new BigInteger("123456789012345678901234567890"),
+            "10", "10.0", "1E1", "0.10", "abc", "", "null", "true", true, false, null);
+
+    @Test
+    public void hashed_lookups_are_same_as_linear_lookups() {
+        List<ValueNode> probes = new ArrayList<ValueNode>();
+        for (Object value : VALUES) {
+            probes.add(ValueNode.toValueNode(value));
+        }
+        probes.add(ValueNode.createJsonNode("[10]"));
+        probes.add(ValueNodes.UNDEFINED);
+
+        for (int size = 0; size <= VALUES.size(); size++) {
+            ValueListNode list = new ValueListNode(VALUES.subList(0, size));
+            for (int round = 0; round < 2; round++) {
+                for (ValueNode probe : probes) {
+                    assertEquals(probe + " in " + list, list.getNodes().contains(probe), list.contains(probe));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void membership_operators_use_literal_lists() {
+        StringBuilder ids = new StringBuilder("[");
+        StringBuilder json = new StringBuilder("{\"events\" : [");
+        for (int i = 0; i < 5000; i++) {
+            ids.append(i > 0 ? "," : "").append(i * 2);
+            json.append(i > 0 ? "," : "").append("{\"id\" : ").append(i).append(", \"tags\" : [").append(i).append(", ").append(i + 1).append("]}");
+        }
+        ids.append("]");
+        Object document = JACKSON_CONFIGURATION.jsonProvider().parse(json.append("]}").toString());
+        Configuration conf = JACKSON_CONFIGURATION;
+
+        List<Object> in = JsonPath.compile("$.events[?(@.id in " + ids + ")].id").read(document, conf);
+        List<Object> nin = JsonPath.compile("$.events[?(@.id nin " + ids + ")].id").read(document, conf);
+        List<Object> anyof = JsonPath.compile("$.events[?(@.tags anyof " + ids + ")].id").read(document, conf);
+        List<Object> noneof = JsonPath.compile("$.events[?(@.tags noneof " + ids + ")].id").read(document, conf);
+        List<Object> subsetof = JsonPath.compile("$.events[?(@.tags subsetof " + ids + ")].id").read(document, conf);
+
+        assertThat(in).hasSize(2500);
+        assertThat(nin).hasSize(2500);
+        assertThat(anyof).hasSize(5000);
+        assertThat(noneof).isEmpty();
+        assertThat(subsetof).isEmpty();
+        assertEquals(0, in.get(0));
+        assertEquals(1, nin.get(0));
+    }
+}
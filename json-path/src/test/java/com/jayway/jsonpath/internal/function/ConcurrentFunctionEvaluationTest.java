@@ -0,0 +1,120 @@
+package com.jayway.jsonpath.internal.function;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.jayway.jsonpath.JsonPath.using;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A compiled path containing functions must be safe to evaluate from many threads at once, and must evaluate the same
+ * way every time it is used.
+ */
+public class ConcurrentFunctionEvaluationTest extends BaseFunctionTest {
+
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 2000;
+
+    private final Configuration conf = Configuration.defaultConfiguration();
+
+    @Test
+    public void shared_path_with_path_parameter_is_evaluated_per_document() throws Exception {
+        final JsonPath path = JsonPath.compile("$.concat(\"/\", $.key, $.numbers.sum())");
+
+        hammer(new Task() {
+            @Override
+            public void run(int thread, int iteration) {
+                String json = "{\"key\" : \"t" + thread + "-" + iteration + "\", \"numbers\" : [" + thread + ", " + iteration + "]}";
+                Object result = using(conf).parse(json).read(path);
+                assertThat(result).isEqualTo("/t" + thread + "-" + iteration + (double) (thread + iteration));
+            }
+        });
+    }
+
+    @Test
+    public void cached_path_with_path_parameter_is_evaluated_per_document() throws Exception {
+        hammer(new Task() {
+            @Override
+            public void run(int thread, int iteration) {
+                String json = "{\"key\" : \"t" + thread + "-" + iteration + "\"}";
+                Object result = JsonPath.parse(json).read("$.concat(\"/\", $.key)");
+                assertThat(result).isEqualTo("/t" + thread + "-" + iteration);
+            }
+        });
+    }
+
+    @Test
+    public void shared_length_path_is_not_modified_by_evaluation() throws Exception {
+        final JsonPath path = JsonPath.compile("$.length($.store.book[*].tags)");
+        final JsonPath scan = JsonPath.compile("$..book.length()");
+
+        hammer(new Task() {
+            @Override
+            public void run(int thread, int iteration) {
+                int books = 1 + (thread + iteration) % 5;
+                StringBuilder json = new StringBuilder("{\"store\" : {\"book\" : [");
+                for (int i = 0; i < books; i++) {
+                    json.append(i == 0 ? "" : ", ").append("{\"tags\" : [\"a\", \"b\"]}");
+                }
+                json.append("]}}");
+                Object document = conf.jsonProvider().parse(json.toString());
+
+                assertThat((Object) path.read(document, conf)).isEqualTo(books * 2);
+                assertThat((Object) scan.read(document, conf)).isEqualTo(books);
+            }
+        });
+    }
+
+    @Test
+    public void shared_path_with_json_parameter() throws Exception {
+        final JsonPath path = JsonPath.compile("$.numbers.append(11, 12).sum()");
+
+        hammer(new Task() {
+            @Override
+            public void run(int thread, int iteration) {
+                Object result = using(conf).parse(NUMBER_SERIES).read(path);
+                assertThat(result).isEqualTo(78.0);
+            }
+        });
+    }
+
+    private interface Task {
+        void run(int thread, int iteration);
+    }
+
+    private static void hammer(final Task task) throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Void>> futures = new ArrayList<Future<Void>>();
+            for (int t = 0; t < THREADS; t++) {
+                final int thread = t;
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        start.await();
+                        for (int i = 0; i < ITERATIONS; i++) {
+                            task.run(thread, i);
+                        }
+                        return null;
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.jayway.jsonpath.internal.path;
+
+import com.jayway.jsonpath.BaseTest;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.PathNotFoundException;
+import com.jayway.jsonpath.internal.Path;
+import com.jayway.jsonpath.spi.json.JsonProvider;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class PathExistsTest extends BaseTest {
+
+    private static final String[] PATHS = {
+            "@", "@.store", "@.store.book", "@.store.bicycle.color", "@.store.bicycle.missing", "@.store.missing.color",
+            "@.string-property.foo", "@.null-property", "@.null-property.foo", "@.store.book[0].author",
+            "@.store.book[9].author", "@.store.book[*].isbn", "@.store.book[*].missing", "@.store..isbn",
+            "@.store.book.length()", "@['store']['bicycle']", "@['store','missing']", "$.store.bicycle", "$.missing"
+    };
+
+    @Test
+    public void exists_is_same_as_evaluation_with_required_properties() {
+        for (Configuration configuration : new Configuration[]{JACKSON_CONFIGURATION, GSON_CONFIGURATION, JACKSON_JSON_NODE_CONFIGURATION}) {
+            Object document = configuration.jsonProvider().parse(JSON_DOCUMENT);
+            Configuration required = Configuration.builder().jsonProvider(configuration.jsonProvider()).options(Option.REQUIRE_PROPERTIES).build();
+
+            for (String p : PATHS) {
+                Path path = PathCompiler.compile(p);
+                boolean expected;
+                try {
+                    expected = path.evaluate(document, document, required).getValue(false) != JsonProvider.UNDEFINED;
+                } catch (PathNotFoundException e) {
+                    expected = false;
+                }
+                assertEquals(p + " " + configuration.jsonProvider().getClass().getSimpleName(),
+                        expected, path.exists(document, document, configuration));
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.jayway.jsonpath.internal.path;
+
+import com.jayway.jsonpath.BaseTest;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.internal.EvaluationContext;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PathSegmentTest extends BaseTest {
+
+    @Test
+    public void segments_are_rendered_as_bracket_notation() {
+        PathSegment root = PathSegment.root("$");
+
+        assertThat(root.toString()).isEqualTo("$");
+        assertThat(root.property("store").property("book").index(0).toString()).isEqualTo("$['store']['book'][0]");
+        assertThat(root.property("store").properties(Arrays.asList("book", "bicycle")).toString()).isEqualTo("$['store']['book', 'bicycle']");
+        assertThat(root.property("numbers").fragment(".length").toString()).isEqualTo("$['numbers'].length");
+    }
+
+    @Test
+    public void child_reuses_path_built_by_parent() {
+        PathSegment book = PathSegment.root("$").property("store").property("book");
+
+        assertThat(book.toString()).isEqualTo("$['store']['book']");
+        assertThat(book.index(2).toString()).isEqualTo("$['store']['book'][2]");
+        assertThat(book.toString()).isSameAs(book.toString());
+    }
+
+    @Test
+    public void deep_paths_do_not_recurse() {
+        PathSegment segment = PathSegment.root("$");
+        for (int i = 0; i < 100000; i++) {
+            segment = segment.index(0);
+        }
+        assertThat(segment.toString()).hasSize(1 + 100000 * 3);
+    }
+
+    @Test
+    public void path_list_is_available_without_as_path_list() {
+        Configuration conf = JACKSON_CONFIGURATION;
+        Object document = conf.jsonProvider().parse(JSON_DOCUMENT);
+
+        EvaluationContext ctx = PathCompiler.compile("$..book[?(@.isbn)].author").evaluate(document, document, conf);
+
+        assertThat(ctx.getPathList()).containsExactly(
+                "$['store']['book'][2]['author']",
+                "$['store']['book'][3]['author']");
+    }
+}
@@ -0,0 +1,63 @@
+package com.jayway.jsonpath.internal.path;
+
+import com.jayway.jsonpath.BaseTest;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.internal.EvaluationContext;
+import com.jayway.jsonpath.internal.PathRef;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScanPathTokenTest extends BaseTest {
+
+    private final Configuration conf = JACKSON_CONFIGURATION;
+    private final Object document = conf.jsonProvider().parse(JSON_DOCUMENT);
+
+    @Test
+    public void read_only_scan_does_not_create_path_refs() {
+        RecordingPropertyPathToken author = new RecordingPropertyPathToken("author");
+        EvaluationContext ctx = scanFor(author).evaluate(document, document, conf, false);
+
+        assertThat(ctx.getPathList()).hasSize(4);
+        assertThat(author.parents).hasSize(4);
+        for (PathRef parent : author.parents) {
+            assertThat(parent).isSameAs(PathRef.NO_OP);
+        }
+    }
+
+    @Test
+    public void update_scan_creates_path_refs() {
+        RecordingPropertyPathToken author = new RecordingPropertyPathToken("author");
+        scanFor(author).evaluate(document, document, conf, true);
+
+        assertThat(author.parents).hasSize(4);
+        for (PathRef parent : author.parents) {
+            assertThat(parent).isNotSameAs(PathRef.NO_OP);
+        }
+    }
+
+    private CompiledPath scanFor(PathToken target) {
+        RootPathToken root = new RootPathToken('$');
+        root.append(new ScanPathToken());
+        root.append(target);
+        return new CompiledPath(root, true);
+    }
+
+    private static class RecordingPropertyPathToken extends PropertyPathToken {
+        private final List<PathRef> parents = new ArrayList<PathRef>();
+
+        RecordingPropertyPathToken(String property) {
+            super(Collections.singletonList(property), '\'');
+        }
+
+        @Override
+        public void evaluate(PathSegment currentPath, PathRef parent, Object model, EvaluationContextImpl ctx) {
+            parents.add(parent);
+            super.evaluate(currentPath, parent, model, ctx);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.jayway.jsonpath.internal.path;
+
+import com.jayway.jsonpath.BaseTest;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.internal.filter.ValueNode;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+public class SharedFragmentsTest extends BaseTest {
+
+    @Test
+    public void paths_in_filters_are_compiled_once() {
+        ValueNode first = ValueNode.createPathNode("@.store.book", false, false);
+        ValueNode second = ValueNode.createPathNode(" @.store.book ", true, false);
+
+        assertSame(first.asPathNode().getPath(), second.asPathNode().getPath());
+        assertNotNull(PathCompiler.compileSubPath("$.store"));
+    }
+
+    @Test
+    public void paths_sharing_filters_are_evaluated_independently() {
+        Object document = JACKSON_CONFIGURATION.jsonProvider().parse(JSON_DOCUMENT);
+
+        List<String> titles = JsonPath.compile("$.store.book[?(@['display-price'] < 10)].title").read(document, JACKSON_CONFIGURATION);
+        List<String> authors = JsonPath.compile("$.store.book[?(@['display-price'] < 10)].author").read(document, JACKSON_CONFIGURATION);
+        List<Object> books = JsonPath.compile("$..book[?(@['display-price'] < 10)]").read(document, JACKSON_CONFIGURATION);
+
+        assertThat(titles).containsExactly("Sayings of the Century", "Moby Dick");
+        assertThat(authors).containsExactly("Nigel Rees", "Herman Melville");
+        assertThat(books).hasSize(2);
+    }
+
+    @Test
+    public void filters_differing_in_whitespace_read_the_same() {
+        Object document = JACKSON_CONFIGURATION.jsonProvider().parse(JSON_DOCUMENT);
+
+        List<String> compact = JsonPath.compile("$.store.book[?(@['display-price'] < 10)].title").read(document, JACKSON_CONFIGURATION);
+        List<String> spaced = JsonPath.compile("$.store.book[?(  @['display-price'] < 10 )].title").read(document, JACKSON_CONFIGURATION);
+
+        assertThat(spaced).isEqualTo(compact).containsExactly("Sayings of the Century", "Moby Dick");
+    }
+}
@@ -0,0 +1,92 @@
+package com.jayway.jsonpath.spi.cache;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConcurrentLRUCacheTest {
+
+    private static final JsonPath PATH = JsonPath.compile("$.foo");
+
+    @Test
+    public void cache_is_bounded() {
+        ConcurrentLRUCache cache = new ConcurrentLRUCache(10);
+        for (int i = 0; i < 100; i++) {
+            cache.put(String.valueOf(i), PATH);
+        }
+        assertThat(cache.size()).isEqualTo(10);
+        assertThat(cache.evictionCount()).isEqualTo(90);
+    }
+
+    @Test
+    public void referenced_entries_survive_eviction() {
+        ConcurrentLRUCache cache = new ConcurrentLRUCache(3);
+        cache.put("a", PATH);
+        cache.put("b", PATH);
+        cache.put("c", PATH);
+
+        cache.get("a");
+        cache.get("c");
+        cache.put("d", PATH);
+
+        assertThat(cache.getSilent("a")).isNotNull();
+        assertThat(cache.getSilent("b")).isNull();
+        assertThat(cache.getSilent("c")).isNotNull();
+        assertThat(cache.getSilent("d")).isNotNull();
+    }
+
+    @Test
+    public void hits_and_misses_are_counted() {
+        ConcurrentLRUCache cache = new ConcurrentLRUCache(10);
+        assertThat(cache.get("a")).isNull();
+        cache.put("a", PATH);
+        assertThat(cache.get("a")).isSameAs(PATH);
+        assertThat(cache.get("a")).isSameAs(PATH);
+        assertThat(cache.getSilent("a")).isSameAs(PATH);
+
+        assertThat(cache.hitCount()).isEqualTo(2);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void limit_must_be_positive() {
+        new ConcurrentLRUCache(0);
+    }
+
+    @Test
+    public void cache_stays_bounded_under_concurrent_access() throws Exception {
+        final ConcurrentLRUCache cache = new ConcurrentLRUCache(50);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < 8; t++) {
+                final int offset = t;
+                futures.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        for (int i = 0; i < 20000; i++) {
+                            String key = String.valueOf((i * 31 + offset) % 200);
+                            if (cache.get(key) == null) {
+                                cache.put(key, PATH);
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(50);
+        assertThat(cache.hitCount() + cache.missCount()).isEqualTo(8 * 20000);
+    }
+}
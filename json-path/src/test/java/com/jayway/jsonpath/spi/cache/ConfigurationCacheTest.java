@@ -0,0 +1,67 @@
+package com.jayway.jsonpath.spi.cache;
+
+import com.jayway.jsonpath.BaseTest;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.Option;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConfigurationCacheTest extends BaseTest {
+
+    @Test
+    public void configuration_cache_is_used_for_string_paths() {
+        ConcurrentLRUCache cache = new ConcurrentLRUCache(10);
+        Configuration conf = Configuration.defaultConfiguration().cache(cache);
+
+        JsonPath.using(conf).parse(JSON_DOCUMENT).read("$.string-property");
+        JsonPath.using(conf).parse(JSON_DOCUMENT).read("$.string-property");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getSilent("$.string-property")).isNotNull();
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void configuration_cache_is_kept_when_configuration_is_derived() {
+        Cache cache = new ConcurrentLRUCache(10);
+        Configuration conf = Configuration.builder().cache(cache).build();
+
+        assertThat(conf.addOptions(Option.ALWAYS_RETURN_LIST).cache()).isSameAs(cache);
+        assertThat(conf.setOptions(Option.AS_PATH_LIST).cache()).isSameAs(cache);
+        assertThat(conf.jsonProvider(JACKSON_CONFIGURATION.jsonProvider()).cache()).isSameAs(cache);
+        assertThat(conf.mappingProvider(JACKSON_CONFIGURATION.mappingProvider()).cache()).isSameAs(cache);
+        assertThat(conf.cache(null).cache()).isNull();
+    }
+
+    @Test
+    public void default_configuration_uses_global_cache() {
+        assertThat(Configuration.defaultConfiguration().cache()).isNull();
+    }
+
+    @Test
+    public void default_cache_size_can_be_set_with_system_property() {
+        String previous = System.getProperty(CacheProvider.CACHE_SIZE_PROPERTY);
+        try {
+            System.setProperty(CacheProvider.CACHE_SIZE_PROPERTY, "5000");
+            assertThat(CacheProvider.getDefaultCacheSize()).isEqualTo(5000);
+
+            System.setProperty(CacheProvider.CACHE_SIZE_PROPERTY, "0");
+            assertThat(CacheProvider.getDefaultCacheSize()).isEqualTo(0);
+
+            System.setProperty(CacheProvider.CACHE_SIZE_PROPERTY, "not a number");
+            assertThat(CacheProvider.getDefaultCacheSize()).isEqualTo(400);
+
+            System.clearProperty(CacheProvider.CACHE_SIZE_PROPERTY);
+            assertThat(CacheProvider.getDefaultCacheSize()).isEqualTo(400);
+        } finally {
+            if (previous == null) {
+                System.clearProperty(CacheProvider.CACHE_SIZE_PROPERTY);
+            } else {
+                System.setProperty(CacheProvider.CACHE_SIZE_PROPERTY, previous);
+            }
+        }
+    }
+}